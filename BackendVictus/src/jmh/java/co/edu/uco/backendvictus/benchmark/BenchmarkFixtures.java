@@ -0,0 +1,36 @@
+package co.edu.uco.backendvictus.benchmark;
+
+import java.util.UUID;
+
+import co.edu.uco.backendvictus.domain.model.Administrador;
+import co.edu.uco.backendvictus.domain.model.Ciudad;
+import co.edu.uco.backendvictus.domain.model.Departamento;
+import co.edu.uco.backendvictus.domain.model.Pais;
+import co.edu.uco.backendvictus.domain.model.Vivienda;
+import co.edu.uco.backendvictus.domain.model.ViviendaEstado;
+import co.edu.uco.backendvictus.domain.model.ViviendaTipo;
+import co.edu.uco.backendvictus.domain.model.conjunto.ConjuntoResidencial;
+
+/**
+ * Representative domain graphs shared by the benchmarks, built through the trusted rehydration path.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static ConjuntoResidencial conjunto(final int index) {
+        final Pais pais = Pais.rehydrate(new UUID(1L, 1L), "Colombia");
+        final Departamento departamento = Departamento.rehydrate(new UUID(2L, 1L), "Antioquia", pais);
+        final Ciudad ciudad = Ciudad.rehydrate(new UUID(3L, 1L), "Rionegro", departamento);
+        final Administrador administrador = Administrador.rehydrate(new UUID(4L, index), "Ana", "Maria", "Perez",
+                "Gomez", "ana.perez@uco.edu.co", "3001234567");
+        return ConjuntoResidencial.rehydrate(new UUID(5L, index), "Conjunto Los Alamos " + index,
+                "Calle 10 # 20-30", ciudad, administrador, "6045551234");
+    }
+
+    static Vivienda vivienda(final int index, final ConjuntoResidencial conjunto) {
+        return Vivienda.rehydrate(new UUID(6L, index), "Torre 1 - " + (100 + index), ViviendaTipo.APARTAMENTO,
+                ViviendaEstado.values()[index % ViviendaEstado.values().length], conjunto);
+    }
+}
@@ -0,0 +1,57 @@
+package co.edu.uco.backendvictus.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.uco.backendvictus.domain.model.Administrador;
+import co.edu.uco.backendvictus.domain.model.Ciudad;
+import co.edu.uco.backendvictus.domain.model.Departamento;
+import co.edu.uco.backendvictus.domain.model.Pais;
+import co.edu.uco.backendvictus.domain.model.conjunto.ConjuntoResidencial;
+
+/**
+ * Per-row cost of building the conjunto graph read by the listing queries: validating factories versus the trusted
+ * rehydration path used by the persistence adapters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConjuntoRehydrationBenchmark {
+
+    private final UUID id = UUID.randomUUID();
+
+    @Benchmark
+    public ConjuntoResidencial create() {
+        final Pais pais = Pais.create(id, "Colombia");
+        final Departamento departamento = Departamento.create(id, "Antioquia", pais);
+        final Ciudad ciudad = Ciudad.create(id, "Rionegro", departamento);
+        final Administrador administrador = Administrador.create(id, "Ana", "Maria", "Perez", "Gomez",
+                "ana.perez@uco.edu.co", "3001234567");
+        return ConjuntoResidencial.create(id, "Conjunto Los Alamos", "Calle 10 # 20-30", ciudad, administrador,
+                "6045551234");
+    }
+
+    @Benchmark
+    public ConjuntoResidencial rehydrate() {
+        final Pais pais = Pais.rehydrate(id, "Colombia");
+        final Departamento departamento = Departamento.rehydrate(id, "Antioquia", pais);
+        final Ciudad ciudad = Ciudad.rehydrate(id, "Rionegro", departamento);
+        final Administrador administrador = Administrador.rehydrate(id, "Ana", "Maria", "Perez", "Gomez",
+                "ana.perez@uco.edu.co", "3001234567");
+        return ConjuntoResidencial.rehydrate(id, "Conjunto Los Alamos", "Calle 10 # 20-30", ciudad, administrador,
+                "6045551234");
+    }
+}
@@ -0,0 +1,94 @@
+package co.edu.uco.backendvictus.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.uco.backendvictus.domain.model.conjunto.ConjuntoResidencial;
+import co.edu.uco.backendvictus.infrastructure.secondary.mapper.ConjuntoRowMapper;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+
+/**
+ * Per-row cost of {@link ConjuntoRowMapper#toDomain}, the mapping behind {@code ConjuntoRepositoryAdapter} and
+ * {@code ViviendaRepositoryAdapter} listings. Rows are served from memory, so the figure excludes driver decoding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConjuntoRowMapperBenchmark {
+
+    private final ConjuntoRowMapper rowMapper = new ConjuntoRowMapper();
+    private final Row row = new MapRow(joinedRow());
+
+    @Benchmark
+    public ConjuntoResidencial toDomain() {
+        return rowMapper.toDomain(row);
+    }
+
+    private static Map<String, Object> joinedRow() {
+        final Map<String, Object> columns = new HashMap<>();
+        columns.put("id", UUID.randomUUID());
+        columns.put("nombre", "Conjunto Los Alamos");
+        columns.put("direccion", "Calle 10 # 20-30");
+        columns.put("telefono", "6045551234");
+        columns.put("ciudad_id", UUID.randomUUID());
+        columns.put("administrador_id", UUID.randomUUID());
+        columns.put("nombre_ciudad", "Rionegro");
+        columns.put("departamento_id", UUID.randomUUID());
+        columns.put("nombre_departamento", "Antioquia");
+        columns.put("pais_id", UUID.randomUUID());
+        columns.put("nombre_pais", "Colombia");
+        columns.put("primer_nombre", "Ana");
+        columns.put("segundo_nombre", "Maria");
+        columns.put("primer_apellido", "Perez");
+        columns.put("segundo_apellido", "Gomez");
+        columns.put("correo", "ana.perez@uco.edu.co");
+        columns.put("administrador_telefono", "3001234567");
+        return columns;
+    }
+
+    /**
+     * Name-addressed row backed by a map, the same lookup pattern the driver resolves by column name.
+     */
+    private static final class MapRow implements Row {
+
+        private final Map<String, Object> columns;
+        private final List<Object> values;
+
+        private MapRow(final Map<String, Object> columns) {
+            this.columns = columns;
+            this.values = List.copyOf(columns.values());
+        }
+
+        @Override
+        public <T> T get(final int index, final Class<T> type) {
+            return type.cast(values.get(index));
+        }
+
+        @Override
+        public <T> T get(final String name, final Class<T> type) {
+            return type.cast(columns.get(name));
+        }
+
+        @Override
+        public RowMetadata getMetadata() {
+            throw new UnsupportedOperationException("Metadata is not used by the row mapper");
+        }
+    }
+}
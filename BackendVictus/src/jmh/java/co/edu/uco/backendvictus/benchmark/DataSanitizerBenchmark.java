@@ -0,0 +1,46 @@
+package co.edu.uco.backendvictus.benchmark;
+
+import java.text.Normalizer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.uco.backendvictus.crosscutting.helpers.DataSanitizer;
+
+/**
+ * Compares {@link DataSanitizer#sanitizeText} with the previous Normalizer + replaceAll implementation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataSanitizerBenchmark {
+
+    @Param({"Torre Norte 101", "  Conjunto   Residencial  Ñandú #Álamos  ", "ana.perez@uco.edu.co"})
+    public String input;
+
+    @Benchmark
+    public String current() {
+        return DataSanitizer.sanitizeText(input);
+    }
+
+    @Benchmark
+    public String regex() {
+        return Normalizer.normalize(input, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .replaceAll("[^\\p{Alnum}\\s@._-]", "")
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+}
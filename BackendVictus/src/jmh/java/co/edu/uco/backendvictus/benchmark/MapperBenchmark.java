@@ -0,0 +1,80 @@
+package co.edu.uco.backendvictus.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.uco.backendvictus.application.dto.conjunto.ConjuntoResponse;
+import co.edu.uco.backendvictus.application.dto.vivienda.ViviendaResponse;
+import co.edu.uco.backendvictus.application.mapper.ConjuntoApplicationMapper;
+import co.edu.uco.backendvictus.application.mapper.ViviendaApplicationMapper;
+import co.edu.uco.backendvictus.domain.model.Vivienda;
+import co.edu.uco.backendvictus.domain.model.conjunto.ConjuntoResidencial;
+import co.edu.uco.backendvictus.infrastructure.secondary.entity.ConjuntoResidencialEntity;
+import co.edu.uco.backendvictus.infrastructure.secondary.entity.ViviendaEntity;
+import co.edu.uco.backendvictus.infrastructure.secondary.mapper.ConjuntoResidencialEntityMapper;
+import co.edu.uco.backendvictus.infrastructure.secondary.mapper.ViviendaEntityMapper;
+
+/**
+ * Per-item cost of the generated MapStruct application mappers (domain to response) and of the entity mappers
+ * (domain to row entity and back) used on every listing and write.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final ConjuntoApplicationMapper conjuntoApplicationMapper = Mappers
+            .getMapper(ConjuntoApplicationMapper.class);
+    private final ViviendaApplicationMapper viviendaApplicationMapper = Mappers
+            .getMapper(ViviendaApplicationMapper.class);
+    private final ConjuntoResidencialEntityMapper conjuntoEntityMapper = new ConjuntoResidencialEntityMapper();
+    private final ViviendaEntityMapper viviendaEntityMapper = new ViviendaEntityMapper();
+
+    private final ConjuntoResidencial conjunto = BenchmarkFixtures.conjunto(1);
+    private final Vivienda vivienda = BenchmarkFixtures.vivienda(1, conjunto);
+    private final ConjuntoResidencialEntity conjuntoEntity = conjuntoEntityMapper.toEntity(conjunto);
+    private final ViviendaEntity viviendaEntity = viviendaEntityMapper.toEntity(vivienda);
+
+    @Benchmark
+    public ConjuntoResponse conjuntoToResponse() {
+        return conjuntoApplicationMapper.toResponse(conjunto);
+    }
+
+    @Benchmark
+    public ViviendaResponse viviendaToResponse() {
+        return viviendaApplicationMapper.toResponse(vivienda);
+    }
+
+    @Benchmark
+    public ConjuntoResidencialEntity conjuntoToEntity() {
+        return conjuntoEntityMapper.toEntity(conjunto);
+    }
+
+    @Benchmark
+    public ConjuntoResidencial conjuntoEntityToDomain() {
+        return conjuntoEntityMapper.toDomain(conjuntoEntity, conjunto.getCiudad(), conjunto.getAdministrador());
+    }
+
+    @Benchmark
+    public ViviendaEntity viviendaToEntity() {
+        return viviendaEntityMapper.toEntity(vivienda);
+    }
+
+    @Benchmark
+    public Vivienda viviendaEntityToDomain() {
+        return viviendaEntityMapper.toDomain(viviendaEntity, conjunto);
+    }
+}
@@ -0,0 +1,82 @@
+package co.edu.uco.backendvictus.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import co.edu.uco.backendvictus.application.dto.common.PageResponse;
+import co.edu.uco.backendvictus.application.dto.conjunto.ConjuntoResponse;
+import co.edu.uco.backendvictus.application.dto.vivienda.ViviendaPageResponse;
+import co.edu.uco.backendvictus.application.dto.vivienda.ViviendaResponse;
+import co.edu.uco.backendvictus.application.mapper.ConjuntoApplicationMapper;
+import co.edu.uco.backendvictus.application.mapper.ViviendaApplicationMapper;
+import co.edu.uco.backendvictus.domain.model.conjunto.ConjuntoResidencial;
+import co.edu.uco.backendvictus.infrastructure.primary.response.ApiSuccessResponse;
+
+/**
+ * Jackson serialization of the listing payloads exactly as the controllers return them: a bare
+ * {@code PageResponse<ConjuntoResponse>} and a {@code ViviendaPageResponse} wrapped in {@link ApiSuccessResponse}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    @Param({"20", "50"})
+    public int pageSize;
+
+    // Same settings Spring Boot applies to the WebFlux codecs.
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private PageResponse<ConjuntoResponse> conjuntoPage;
+    private ApiSuccessResponse<ViviendaPageResponse> viviendaPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final ConjuntoApplicationMapper conjuntoMapper = Mappers.getMapper(ConjuntoApplicationMapper.class);
+        final ViviendaApplicationMapper viviendaMapper = Mappers.getMapper(ViviendaApplicationMapper.class);
+        final List<ConjuntoResponse> conjuntos = new ArrayList<>(pageSize);
+        final List<ViviendaResponse> viviendas = new ArrayList<>(pageSize);
+        final ConjuntoResidencial owner = BenchmarkFixtures.conjunto(0);
+        for (int i = 0; i < pageSize; i++) {
+            conjuntos.add(conjuntoMapper.toResponse(BenchmarkFixtures.conjunto(i)));
+            viviendas.add(viviendaMapper.toResponse(BenchmarkFixtures.vivienda(i, owner)));
+        }
+        conjuntoPage = PageResponse.ofCursor(conjuntos, 1_000L, pageSize, "eyJuIjoiQ29uanVudG8ifQ");
+        viviendaPage = ApiSuccessResponse.of(new ViviendaPageResponse(viviendas, 1_000, 0, pageSize));
+    }
+
+    @Benchmark
+    public byte[] conjuntoPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(conjuntoPage);
+    }
+
+    @Benchmark
+    public byte[] viviendaPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(viviendaPage);
+    }
+}
@@ -0,0 +1,65 @@
+package co.edu.uco.backendvictus.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.uco.backendvictus.crosscutting.helpers.DataSanitizer;
+import co.edu.uco.backendvictus.domain.model.ViviendaEstado;
+
+/**
+ * Resolution of {@link ViviendaEstado} from a stored value and from user input, against the previous linear scan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ViviendaEnumBenchmark {
+
+    public String stored = "En mantenimiento";
+    public String userInput = "  en mantenimiento ";
+
+    // Previous implementation: each constant kept its normalized value and from() streamed over values().
+    private final String[] normalizedValues = Arrays.stream(ViviendaEstado.values())
+            .map(estado -> DataSanitizer.sanitizeText(estado.getValue()).toUpperCase())
+            .toArray(String[]::new);
+
+    @Benchmark
+    public ViviendaEstado fromStoredValue() {
+        return ViviendaEstado.from(stored);
+    }
+
+    @Benchmark
+    public ViviendaEstado fromUserInput() {
+        return ViviendaEstado.from(userInput);
+    }
+
+    @Benchmark
+    public ViviendaEstado linearScanFromValue() {
+        return linearScan(stored);
+    }
+
+    @Benchmark
+    public ViviendaEstado linearScanFromUserInput() {
+        return linearScan(userInput);
+    }
+
+    private ViviendaEstado linearScan(final String rawValue) {
+        final String normalized = DataSanitizer.sanitizeText(rawValue).toUpperCase();
+        return Arrays.stream(ViviendaEstado.values())
+                .filter(estado -> normalizedValues[estado.ordinal()].equals(normalized))
+                .findFirst()
+                .orElseThrow();
+    }
+}
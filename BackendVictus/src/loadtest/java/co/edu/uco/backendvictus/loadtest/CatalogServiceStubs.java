@@ -0,0 +1,98 @@
+package co.edu.uco.backendvictus.loadtest;
+
+import java.io.IOException;
+import java.util.Map;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+
+/**
+ * Stands in for message-service and parameters-service. Lists, single lookups and batch lookups answer from a
+ * fixed catalog; change streams stay open without events, as they would on a quiet catalog, so the clients keep
+ * serving from their warmed caches like in production.
+ */
+final class CatalogServiceStubs implements AutoCloseable {
+
+    static final String MESSAGES_PATH = "/api/v1/messages";
+    static final String PARAMETERS_PATH = "/api/v1/parameters";
+
+    private static final Map<String, String> PARAMETERS = Map.of("vivienda.max.limit", "1000000");
+
+    private final MockWebServer messages = new MockWebServer();
+    private final MockWebServer parameters = new MockWebServer();
+
+    void start() throws IOException {
+        messages.setDispatcher(new CatalogDispatcher(MESSAGES_PATH, "[]", "{}"));
+        parameters.setDispatcher(new CatalogDispatcher(PARAMETERS_PATH, parametersJson(), "{}"));
+        messages.start();
+        parameters.start();
+    }
+
+    String messagesBaseUrl() {
+        return messages.url(MESSAGES_PATH).toString();
+    }
+
+    String parametersBaseUrl() {
+        return parameters.url(PARAMETERS_PATH).toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        messages.shutdown();
+        parameters.shutdown();
+    }
+
+    private static String parametersJson() {
+        final StringBuilder json = new StringBuilder("[");
+        PARAMETERS.forEach((key, value) -> {
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append(parameterJson(key, value));
+        });
+        return json.append(']').toString();
+    }
+
+    private static String parameterJson(final String key, final String value) {
+        return "{\"key\":\"" + key + "\",\"value\":\"" + value + "\"}";
+    }
+
+    private static final class CatalogDispatcher extends Dispatcher {
+
+        private final String basePath;
+        private final String listBody;
+        private final String batchBody;
+
+        private CatalogDispatcher(final String basePath, final String listBody, final String batchBody) {
+            this.basePath = basePath;
+            this.listBody = listBody;
+            this.batchBody = batchBody;
+        }
+
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) {
+            final String path = request.getPath() == null ? "" : request.getPath();
+            if (path.equals(basePath)) {
+                return json(listBody);
+            }
+            if (path.equals(basePath + ":batchGet")) {
+                return json(batchBody);
+            }
+            if (path.equals(basePath + "/stream")) {
+                return new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE);
+            }
+            final String key = path.startsWith(basePath + "/") ? path.substring(basePath.length() + 1) : null;
+            if (key != null && PARAMETERS.containsKey(key) && basePath.equals(PARAMETERS_PATH)) {
+                return json(parameterJson(key, PARAMETERS.get(key)));
+            }
+            return new MockResponse().setResponseCode(404);
+        }
+
+        private static MockResponse json(final String body) {
+            return new MockResponse().setBody(body).addHeader("Content-Type", "application/json");
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package co.edu.uco.backendvictus.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.uco.backendvictus.loadtest.LoadTestDataSeeder.SeedData;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * End-to-end load test: boots the application on a random port against a PostgreSQL container seeded with
+ * {@code loadtest.*} volumes, with message-service and parameters-service replaced by {@link CatalogServiceStubs},
+ * and drives the {@link TrafficGenerator} mix. Prints p50/p99 and RPS per endpoint and writes them to
+ * {@code loadtest.report} so runs can be compared between versions. Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.cloud.azure.keyvault.secret.enabled=false",
+        "spring.cloud.azure.keyvault.secret.property-source-enabled=false",
+        "logging.level.org.springframework.r2dbc=WARN",
+        "logging.level.io.r2dbc.postgresql=WARN"})
+class ConjuntoViviendaLoadTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConjuntoViviendaLoadTest.class);
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>(System.getProperty("loadtest.postgres-image", "postgres:16-alpine"));
+
+    private static final CatalogServiceStubs STUBS = new CatalogServiceStubs();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @DynamicPropertySource
+    static void properties(final DynamicPropertyRegistry registry) throws IOException {
+        STUBS.start();
+        registry.add("spring.r2dbc.url", () -> "r2dbc:postgresql://%s:%d/%s".formatted(POSTGRES.getHost(),
+                POSTGRES.getFirstMappedPort(), POSTGRES.getDatabaseName()));
+        registry.add("spring.r2dbc.username", POSTGRES::getUsername);
+        registry.add("spring.r2dbc.password", POSTGRES::getPassword);
+        registry.add("services.message.base-url", STUBS::messagesBaseUrl);
+        registry.add("services.parameter.base-url", STUBS::parametersBaseUrl);
+    }
+
+    @AfterAll
+    static void stopStubs() throws IOException {
+        STUBS.close();
+    }
+
+    @Test
+    void shouldReportLatencyAndThroughputPerEndpoint() throws IOException {
+        final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        final long seedStart = System.nanoTime();
+        final SeedData seed = new LoadTestDataSeeder(databaseClient).seed(settings);
+        LOGGER.info("Datos de carga sembrados: {} ciudades, {} administradores, {} conjuntos, {} viviendas en {} ms",
+                settings.ciudades(), settings.administradores(), settings.conjuntos(),
+                settings.conjuntos() * settings.viviendasPorConjunto(), (System.nanoTime() - seedStart) / 1_000_000);
+
+        final TrafficGenerator generator = new TrafficGenerator(client(settings), settings, seed);
+        final List<EndpointReport> reports = generator.run();
+
+        final StringBuilder table = new StringBuilder(EndpointReport.header());
+        reports.forEach(report -> table.append(System.lineSeparator()).append(report.toRow()));
+        LOGGER.info("Resultado de la prueba de carga ({} concurrentes, {} suscriptores SSE, {} eventos SSE):{}{}",
+                settings.concurrency(), settings.sseSubscribers(), generator.streamEvents(),
+                System.lineSeparator(), table);
+        writeReport(settings, generator.streamEvents(), reports);
+
+        for (final EndpointReport report : reports) {
+            assertTrue(report.requests() > 0, () -> report.endpoint() + " no recibio trafico");
+            assertTrue(report.errors() <= report.requests() * MAX_ERROR_RATE,
+                    () -> report.endpoint() + " supero la tasa de errores permitida: " + report.errors());
+        }
+    }
+
+    // The default pool caps connections well below the workers plus the open streams.
+    private WebClient client(final LoadTestSettings settings) {
+        final ConnectionProvider connections = ConnectionProvider.builder("loadtest")
+                .maxConnections(settings.concurrency() + settings.sseSubscribers() + 16)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        return WebClient.builder()
+                .baseUrl("http://localhost:" + port)
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connections)))
+                .build();
+    }
+
+    private static void writeReport(final LoadTestSettings settings, final long streamEvents,
+            final List<EndpointReport> reports) throws IOException {
+        final Map<String, Object> document = new LinkedHashMap<>();
+        document.put("conjuntos", settings.conjuntos());
+        document.put("viviendasPorConjunto", settings.viviendasPorConjunto());
+        document.put("concurrency", settings.concurrency());
+        document.put("sseSubscribers", settings.sseSubscribers());
+        document.put("duration", settings.duration().toString());
+        document.put("streamEvents", streamEvents);
+        document.put("endpoints", reports);
+        if (settings.report().getParent() != null) {
+            Files.createDirectories(settings.report().getParent());
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(settings.report().toFile(), document);
+        LOGGER.info("Reporte de carga escrito en {}", settings.report().toAbsolutePath());
+    }
+}
@@ -0,0 +1,35 @@
+package co.edu.uco.backendvictus.loadtest;
+
+/**
+ * Operations the load test reports on, named as they appear in {@code loadtest.mix} and in the report.
+ */
+enum Endpoint {
+
+    CONJUNTOS_LIST("conjuntos.list"),
+    CONJUNTOS_FILTER("conjuntos.filter"),
+    CONJUNTOS_SEARCH("conjuntos.search"),
+    CONJUNTOS_CREATE("conjuntos.create"),
+    CONJUNTOS_STREAM("conjuntos.stream"),
+    VIVIENDAS_LIST("viviendas.list"),
+    VIVIENDAS_FILTER("viviendas.filter"),
+    VIVIENDAS_CREATE("viviendas.create");
+
+    private final String label;
+
+    Endpoint(final String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+
+    static Endpoint fromName(final String name) {
+        for (final Endpoint endpoint : values()) {
+            if (endpoint.label.equals(name)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Operacion de carga desconocida: " + name);
+    }
+}
@@ -0,0 +1,18 @@
+package co.edu.uco.backendvictus.loadtest;
+
+/**
+ * Outcome of one endpoint over the measured window; latencies in milliseconds.
+ */
+record EndpointReport(String endpoint, long requests, long errors, double rps, double p50Ms, double p99Ms,
+        double maxMs) {
+
+    String toRow() {
+        return String.format("%-18s %9d %7d %10.1f %9.2f %9.2f %9.2f", endpoint, requests, errors, rps, p50Ms,
+                p99Ms, maxMs);
+    }
+
+    static String header() {
+        return String.format("%-18s %9s %7s %10s %9s %9s %9s", "endpoint", "requests", "errors", "rps",
+                "p50 ms", "p99 ms", "max ms");
+    }
+}
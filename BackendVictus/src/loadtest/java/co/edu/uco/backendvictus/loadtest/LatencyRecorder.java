@@ -0,0 +1,44 @@
+package co.edu.uco.backendvictus.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Keeps every latency sample of one endpoint so percentiles are exact rather than estimated; a run of a few
+ * minutes stays within a few megabytes per endpoint.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+    private int count;
+    private long errors;
+
+    synchronized void record(final long nanos, final boolean success) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        if (!success) {
+            errors++;
+        }
+    }
+
+    synchronized EndpointReport report(final Endpoint endpoint, final double elapsedSeconds) {
+        final long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new EndpointReport(endpoint.label(), count, errors, count / elapsedSeconds,
+                millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)),
+                millis(count == 0 ? 0L : sorted[count - 1]));
+    }
+
+    private static long percentile(final long[] sorted, final double quantile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        final int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
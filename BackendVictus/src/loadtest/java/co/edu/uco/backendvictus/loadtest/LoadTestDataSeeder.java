@@ -0,0 +1,123 @@
+package co.edu.uco.backendvictus.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import co.edu.uco.backendvictus.domain.model.Administrador;
+import co.edu.uco.backendvictus.domain.model.Ciudad;
+import co.edu.uco.backendvictus.domain.model.Departamento;
+import co.edu.uco.backendvictus.domain.model.Pais;
+import co.edu.uco.backendvictus.domain.model.Vivienda;
+import co.edu.uco.backendvictus.domain.model.conjunto.ConjuntoResidencial;
+import co.edu.uco.backendvictus.seeds.ViviendaFactory;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Flux;
+
+/**
+ * Seeds the database with the volumes from {@link LoadTestSettings}, built through {@link ViviendaFactory} so the
+ * rows pass the same domain validations as the ones the API creates. Rows go in as multi-binding statements of
+ * {@value #BATCH_SIZE} rows to keep seeding time small next to the measured window.
+ */
+final class LoadTestDataSeeder {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int DEPARTAMENTOS = 4;
+
+    private final DatabaseClient databaseClient;
+
+    LoadTestDataSeeder(final DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    SeedData seed(final LoadTestSettings settings) {
+        final Pais pais = ViviendaFactory.buildPais();
+        final List<Departamento> departamentos = new ArrayList<>();
+        for (int i = 0; i < DEPARTAMENTOS; i++) {
+            departamentos.add(ViviendaFactory.buildDepartamento(pais, i));
+        }
+        final List<Ciudad> ciudades = new ArrayList<>();
+        for (int i = 0; i < settings.ciudades(); i++) {
+            ciudades.add(ViviendaFactory.buildCiudad(departamentos.get(i % DEPARTAMENTOS), i));
+        }
+        final List<Administrador> administradores = new ArrayList<>();
+        for (int i = 0; i < settings.administradores(); i++) {
+            administradores.add(ViviendaFactory.buildAdministrador(i));
+        }
+        final List<ConjuntoResidencial> conjuntos = new ArrayList<>();
+        for (int i = 0; i < settings.conjuntos(); i++) {
+            conjuntos.add(ViviendaFactory.buildConjunto(ciudades.get(i % ciudades.size()),
+                    administradores.get(i % administradores.size()), i));
+        }
+
+        insert("INSERT INTO pais (id, nombre) VALUES ($1, $2)", List.of(pais),
+                row -> new Object[] {row.getId(), row.getNombre()});
+        insert("INSERT INTO departamento (id, pais_id, nombre) VALUES ($1, $2, $3)", departamentos,
+                row -> new Object[] {row.getId(), row.getPais().getId(), row.getNombre()});
+        insert("INSERT INTO ciudad (id, departamento_id, nombre) VALUES ($1, $2, $3)", ciudades,
+                row -> new Object[] {row.getId(), row.getDepartamento().getId(), row.getNombre()});
+        insert("INSERT INTO administrador (id, primer_nombre, primer_apellido, correo, telefono) "
+                + "VALUES ($1, $2, $3, $4, $5)", administradores,
+                row -> new Object[] {row.getId(), row.getPrimerNombre(), row.getPrimerApellido(), row.getEmail(),
+                        row.getTelefono()});
+        insert("INSERT INTO conjunto_residencial (id, nombre, direccion, ciudad_id, administrador_id, telefono) "
+                + "VALUES ($1, $2, $3, $4, $5, $6)", conjuntos,
+                row -> new Object[] {row.getId(), row.getNombre(), row.getDireccion(), row.getCiudad().getId(),
+                        row.getAdministrador().getId(), row.getTelefono()});
+
+        final List<Vivienda> viviendas = new ArrayList<>(BATCH_SIZE);
+        for (final ConjuntoResidencial conjunto : conjuntos) {
+            for (int i = 0; i < settings.viviendasPorConjunto(); i++) {
+                viviendas.add(ViviendaFactory.buildVivienda(conjunto, i));
+                if (viviendas.size() == BATCH_SIZE) {
+                    insertViviendas(viviendas);
+                    viviendas.clear();
+                }
+            }
+        }
+        insertViviendas(viviendas);
+
+        return new SeedData(ids(ciudades, Ciudad::getId), ids(administradores, Administrador::getId),
+                ids(conjuntos, ConjuntoResidencial::getId));
+    }
+
+    private void insertViviendas(final List<Vivienda> viviendas) {
+        insert("INSERT INTO vivienda (id, numero, tipo, estado, conjunto_id) VALUES ($1, $2, $3, $4, $5)",
+                viviendas, row -> new Object[] {row.getId(), row.getNumero(), row.getTipo().getValue(),
+                        row.getEstado().getValue(), row.getConjunto().getId()});
+    }
+
+    private <T> void insert(final String sql, final List<T> rows,
+            final Function<T, Object[]> binder) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            final List<T> batch = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+            databaseClient.inConnection(connection -> {
+                final Statement statement = connection.createStatement(sql);
+                for (int i = 0; i < batch.size(); i++) {
+                    if (i > 0) {
+                        statement.add();
+                    }
+                    final Object[] values = binder.apply(batch.get(i));
+                    for (int column = 0; column < values.length; column++) {
+                        statement.bind(column, values[column]);
+                    }
+                }
+                return Flux.from(statement.execute()).flatMap(Result::getRowsUpdated).then();
+            }).block();
+        }
+    }
+
+    private static <T> List<UUID> ids(final List<T> rows, final Function<T, UUID> id) {
+        return rows.stream().map(id).toList();
+    }
+
+    /**
+     * Identifiers the traffic generator draws from when it filters and creates.
+     */
+    record SeedData(List<UUID> ciudadIds, List<UUID> administradorIds, List<UUID> conjuntoIds) {
+    }
+}
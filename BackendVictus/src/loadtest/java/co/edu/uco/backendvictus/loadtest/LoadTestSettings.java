@@ -0,0 +1,54 @@
+package co.edu.uco.backendvictus.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test knobs, read from {@code -Dloadtest.*} system properties so volumes and the traffic mix can change
+ * between runs without recompiling.
+ */
+record LoadTestSettings(int ciudades, int administradores, int conjuntos, int viviendasPorConjunto,
+        int concurrency, int sseSubscribers, Duration warmUp, Duration duration, Map<Endpoint, Integer> mix,
+        Path report) {
+
+    private static final String DEFAULT_MIX = "conjuntos.list=30,conjuntos.filter=15,conjuntos.search=10,"
+            + "conjuntos.create=5,viviendas.list=20,viviendas.filter=15,viviendas.create=5";
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.ciudades", 20),
+                Integer.getInteger("loadtest.administradores", 100),
+                Integer.getInteger("loadtest.conjuntos", 1_000),
+                Integer.getInteger("loadtest.viviendas-por-conjunto", 20),
+                Integer.getInteger("loadtest.concurrency", 32),
+                Integer.getInteger("loadtest.sse-subscribers", 50),
+                Duration.parse(System.getProperty("loadtest.warm-up", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json")));
+    }
+
+    private static Map<Endpoint, Integer> parseMix(final String raw) {
+        final Map<Endpoint, Integer> mix = new LinkedHashMap<>();
+        for (final String entry : raw.split(",")) {
+            final String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Entrada de mezcla invalida: " + entry);
+            }
+            final int weight = Integer.parseInt(parts[1].trim());
+            final Endpoint endpoint = Endpoint.fromName(parts[0].trim());
+            if (endpoint == Endpoint.CONJUNTOS_STREAM) {
+                throw new IllegalArgumentException("El stream se controla con loadtest.sse-subscribers");
+            }
+            if (weight > 0) {
+                mix.put(endpoint, weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("La mezcla de trafico no tiene operaciones");
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,180 @@
+package co.edu.uco.backendvictus.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import co.edu.uco.backendvictus.loadtest.LoadTestDataSeeder.SeedData;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Closed-loop traffic: {@code concurrency} workers each issue one request at a time, picking the operation by the
+ * weights of {@code loadtest.mix}, while {@code sse-subscribers} clients stay connected to the conjunto stream and
+ * receive the events the creates publish. Responses are read completely so latency includes the transfer.
+ */
+final class TrafficGenerator {
+
+    private static final String CONJUNTOS = "/uco-challenge/api/v1/conjuntos";
+    private static final String VIVIENDAS = "/uco-challenge/api/v1/viviendas";
+    private static final int PAGE_SIZE = 20;
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> EVENT_TYPE =
+            new ParameterizedTypeReference<>() { };
+
+    private final WebClient client;
+    private final LoadTestSettings settings;
+    private final SeedData seed;
+    private final Endpoint[] wheel;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong streamEvents = new AtomicLong();
+    private volatile Map<Endpoint, LatencyRecorder> recorders = newRecorders();
+
+    TrafficGenerator(final WebClient client, final LoadTestSettings settings, final SeedData seed) {
+        this.client = client;
+        this.settings = settings;
+        this.seed = seed;
+        final List<Endpoint> weighted = new ArrayList<>();
+        settings.mix().forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(endpoint);
+            }
+        });
+        this.wheel = weighted.toArray(Endpoint[]::new);
+    }
+
+    /**
+     * Warms the application up, discards those samples and then measures for {@code loadtest.duration}.
+     */
+    List<EndpointReport> run() {
+        drive(settings.warmUp());
+        recorders = newRecorders();
+        streamEvents.set(0);
+
+        final Disposable streams = openStreams();
+        final long start = System.nanoTime();
+        try {
+            drive(settings.duration());
+        } finally {
+            streams.dispose();
+        }
+        final double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        final List<EndpointReport> reports = new ArrayList<>();
+        recorders.forEach((endpoint, recorder) -> {
+            if (settings.mix().containsKey(endpoint)
+                    || endpoint == Endpoint.CONJUNTOS_STREAM && settings.sseSubscribers() > 0) {
+                reports.add(recorder.report(endpoint, elapsedSeconds));
+            }
+        });
+        return reports;
+    }
+
+    long streamEvents() {
+        return streamEvents.get();
+    }
+
+    private void drive(final Duration duration) {
+        final long deadline = System.nanoTime() + duration.toNanos();
+        Flux.range(0, settings.concurrency())
+                .flatMap(worker -> Mono.defer(() -> call(nextEndpoint()))
+                        .repeat(() -> System.nanoTime() < deadline), settings.concurrency())
+                .blockLast();
+    }
+
+    private Mono<Void> call(final Endpoint endpoint) {
+        final long start = System.nanoTime();
+        return request(endpoint)
+                .onErrorReturn(false)
+                .doOnNext(success -> recorders.get(endpoint).record(System.nanoTime() - start, success))
+                .then();
+    }
+
+    private Mono<Boolean> request(final Endpoint endpoint) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (endpoint) {
+            case CONJUNTOS_LIST -> get(CONJUNTOS + "?page={page}&size={size}",
+                    random.nextInt(Math.max(1, Math.min(50, seed.conjuntoIds().size() / PAGE_SIZE))), PAGE_SIZE);
+            case CONJUNTOS_FILTER -> get(CONJUNTOS + "?ciudadId={ciudadId}&size={size}",
+                    pick(seed.ciudadIds()), PAGE_SIZE);
+            case CONJUNTOS_SEARCH -> get(CONJUNTOS + "/search?q={q}&size={size}",
+                    "Conjunto " + random.nextInt(Math.max(1, seed.conjuntoIds().size())), PAGE_SIZE);
+            case CONJUNTOS_CREATE -> createConjunto(sequence.incrementAndGet());
+            case VIVIENDAS_LIST -> get(VIVIENDAS + "?conjuntoId={conjuntoId}&page=0&size={size}",
+                    pick(seed.conjuntoIds()), PAGE_SIZE);
+            case VIVIENDAS_FILTER -> get(VIVIENDAS + "?estado={estado}&tipo={tipo}&page={page}&size={size}",
+                    "Disponible", "Apartamento", random.nextInt(10), PAGE_SIZE);
+            case VIVIENDAS_CREATE -> post(VIVIENDAS, Map.of(
+                    "conjuntoId", pick(seed.conjuntoIds()),
+                    "numero", "C" + sequence.incrementAndGet(),
+                    "tipo", "Apartamento",
+                    "estado", "Disponible"));
+            case CONJUNTOS_STREAM -> throw new IllegalArgumentException("El stream no forma parte de la mezcla");
+        };
+    }
+
+    // Nombre and telefono are unique per call so creates measure the insert path, not the duplicate checks.
+    private Mono<Boolean> createConjunto(final long number) {
+        return post(CONJUNTOS, Map.of(
+                "ciudadId", pick(seed.ciudadIds()),
+                "administradorId", pick(seed.administradorIds()),
+                "nombre", "Conjunto Carga " + number,
+                "direccion", "Carrera " + number + " #20",
+                "telefono", String.valueOf(7_000_000_000L + number)));
+    }
+
+    private Mono<Boolean> get(final String uri, final Object... variables) {
+        return client.get().uri(uri, variables).accept(MediaType.APPLICATION_JSON).exchangeToMono(this::drain);
+    }
+
+    private Mono<Boolean> post(final String uri, final Map<String, ?> body) {
+        return client.post().uri(uri).contentType(MediaType.APPLICATION_JSON).bodyValue(body)
+                .exchangeToMono(this::drain);
+    }
+
+    private Mono<Boolean> drain(final ClientResponse response) {
+        return response.bodyToMono(byte[].class)
+                .then(Mono.fromSupplier(() -> response.statusCode().is2xxSuccessful()));
+    }
+
+    // The recorded latency of a subscriber is the time until the response headers arrive.
+    private Disposable openStreams() {
+        return Flux.range(0, settings.sseSubscribers())
+                .flatMap(subscriber -> Flux.defer(() -> {
+                    final long start = System.nanoTime();
+                    return client.get().uri(CONJUNTOS + "/stream").accept(MediaType.TEXT_EVENT_STREAM)
+                            .exchangeToFlux(response -> {
+                                recorders.get(Endpoint.CONJUNTOS_STREAM).record(System.nanoTime() - start,
+                                        response.statusCode().is2xxSuccessful());
+                                return response.bodyToFlux(EVENT_TYPE);
+                            });
+                }), Math.max(1, settings.sseSubscribers()))
+                .subscribe(event -> streamEvents.incrementAndGet(), error -> { });
+    }
+
+    private Endpoint nextEndpoint() {
+        return wheel[ThreadLocalRandom.current().nextInt(wheel.length)];
+    }
+
+    private static <T> T pick(final List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private static Map<Endpoint, LatencyRecorder> newRecorders() {
+        final Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+        for (final Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new LatencyRecorder());
+        }
+        return recorders;
+    }
+}
@@ -0,0 +1,33 @@
+package co.edu.uco.backendvictus.application.dto.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import co.edu.uco.backendvictus.crosscutting.exception.ApplicationException;
+
+/**
+ * Position of a keyset page over conjuntos ordered by {@code (nombre, id)}. Clients only see the opaque encoded form.
+ */
+public record PageCursor(String nombre, UUID id) {
+
+    private static final char SEPARATOR = '\n';
+
+    public String encode() {
+        final String raw = nombre + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(final String encoded) {
+        try {
+            final String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            final int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("missing separator");
+            }
+            return new PageCursor(raw.substring(0, separator), UUID.fromString(raw.substring(separator + 1)));
+        } catch (final IllegalArgumentException exception) {
+            throw new ApplicationException("El cursor de paginacion no es valido", exception);
+        }
+    }
+}
@@ -2,9 +2,19 @@ package co.edu.uco.backendvictus.application.dto.common;
 
 import java.util.List;
 
-public record PageResponse<T>(List<T> items, long total, int page, int size) {
+/**
+ * Page of results. {@code nextCursor} is only filled in keyset mode and is {@code null} on the last page or when the
+ * page was requested by offset. In keyset mode {@code total} is only reported on the first page and is {@code null}
+ * on the pages reached through a cursor.
+ */
+public record PageResponse<T>(List<T> items, Long total, int page, int size, String nextCursor) {
 
     public static <T> PageResponse<T> of(final List<T> items, final long total, final int page, final int size) {
-        return new PageResponse<>(items, total, page, size);
+        return new PageResponse<>(items, total, page, size, null);
+    }
+
+    public static <T> PageResponse<T> ofCursor(final List<T> items, final Long total, final int size,
+            final String nextCursor) {
+        return new PageResponse<>(items, total, 0, size, nextCursor);
     }
 }
@@ -0,0 +1,6 @@
+package co.edu.uco.backendvictus.application.dto.vivienda;
+
+import java.util.List;
+
+public record ViviendaBulkResponse(int total, int created, int rejected, List<ViviendaBulkResult> results) {
+}
@@ -0,0 +1,15 @@
+package co.edu.uco.backendvictus.application.dto.vivienda;
+
+/**
+ * Outcome of one row of a bulk import: either the created vivienda or the reason it was rejected.
+ */
+public record ViviendaBulkResult(int row, String numero, ViviendaResponse vivienda, String error) {
+
+    public static ViviendaBulkResult created(final int row, final ViviendaResponse vivienda) {
+        return new ViviendaBulkResult(row, vivienda.numero(), vivienda, null);
+    }
+
+    public static ViviendaBulkResult rejected(final int row, final String numero, final String error) {
+        return new ViviendaBulkResult(row, numero, null, error);
+    }
+}
@@ -24,13 +24,24 @@ public interface ConjuntoRepositoryPort {
 
     Flux<ConjuntoResidencial> findAllWithNamesPaged(int page, int size);
 
+    /**
+     * Keyset page ordered by {@code (nombre, id)}. A {@code null} nombre/id starts from the first row.
+     */
+    Flux<ConjuntoResidencial> findAllWithNamesAfter(String nombre, UUID id, int limit);
+
     Mono<Long> countAll();
 
-    Flux<ConjuntoResidencial> findByDepartamentoId(UUID departamentoId);
+    /**
+     * Page of conjuntos matching every non-null filter, ordered by {@code (nombre, id)}.
+     */
+    Flux<ConjuntoResidencial> findFiltered(UUID departamentoId, UUID ciudadId, String nombre, int page, int size);
 
-    Flux<ConjuntoResidencial> findByCiudadId(UUID ciudadId);
+    Mono<Long> countFiltered(UUID departamentoId, UUID ciudadId, String nombre);
 
-    Flux<ConjuntoResidencial> findByDepartamentoIdAndCiudadId(UUID departamentoId, UUID ciudadId);
+    /**
+     * Type-ahead search over the conjunto name, best trigram similarity first.
+     */
+    Flux<ConjuntoResidencial> searchByNombre(String term, int page, int size);
 
-    Flux<ConjuntoResidencial> findByNombre(String nombre);
+    Mono<Long> countSearchByNombre(String term);
 }
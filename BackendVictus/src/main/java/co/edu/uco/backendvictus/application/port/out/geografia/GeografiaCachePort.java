@@ -0,0 +1,18 @@
+package co.edu.uco.backendvictus.application.port.out.geografia;
+
+import java.util.UUID;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Invalidation hooks for the in-process cache of geographic reference data. Evicting a parent also evicts every
+ * cached child, because cached children embed the parent aggregate.
+ */
+public interface GeografiaCachePort {
+
+    Mono<Void> evictPais(UUID paisId);
+
+    Mono<Void> evictDepartamento(UUID departamentoId);
+
+    Mono<Void> evictCiudad(UUID ciudadId);
+}
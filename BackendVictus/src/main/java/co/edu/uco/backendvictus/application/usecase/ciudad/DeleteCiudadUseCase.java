@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 
 import reactor.core.publisher.Mono;
 
+import co.edu.uco.backendvictus.application.port.out.geografia.GeografiaCachePort;
 import co.edu.uco.backendvictus.crosscutting.exception.ApplicationException;
 import co.edu.uco.backendvictus.domain.port.CiudadRepository;
 
@@ -13,14 +14,17 @@ import co.edu.uco.backendvictus.domain.port.CiudadRepository;
 public class DeleteCiudadUseCase {
 
     private final CiudadRepository ciudadRepository;
+    private final GeografiaCachePort geografiaCache;
 
-    public DeleteCiudadUseCase(final CiudadRepository ciudadRepository) {
+    public DeleteCiudadUseCase(final CiudadRepository ciudadRepository, final GeografiaCachePort geografiaCache) {
         this.ciudadRepository = ciudadRepository;
+        this.geografiaCache = geografiaCache;
     }
 
     public Mono<Void> execute(final UUID id) {
         return ciudadRepository.findById(id)
                 .switchIfEmpty(Mono.error(new ApplicationException("Ciudad no encontrada")))
-                .then(ciudadRepository.deleteById(id));
+                .then(ciudadRepository.deleteById(id))
+                .then(geografiaCache.evictCiudad(id));
     }
 }
@@ -7,6 +7,7 @@ import reactor.core.publisher.Mono;
 import co.edu.uco.backendvictus.application.dto.ciudad.CiudadResponse;
 import co.edu.uco.backendvictus.application.dto.ciudad.CiudadUpdateRequest;
 import co.edu.uco.backendvictus.application.mapper.CiudadApplicationMapper;
+import co.edu.uco.backendvictus.application.port.out.geografia.GeografiaCachePort;
 import co.edu.uco.backendvictus.application.usecase.UseCase;
 import co.edu.uco.backendvictus.crosscutting.exception.ApplicationException;
 import co.edu.uco.backendvictus.domain.model.Ciudad;
@@ -20,12 +21,15 @@ public class UpdateCiudadUseCase implements UseCase<CiudadUpdateRequest, CiudadR
     private final CiudadRepository ciudadRepository;
     private final DepartamentoRepository departamentoRepository;
     private final CiudadApplicationMapper mapper;
+    private final GeografiaCachePort geografiaCache;
 
     public UpdateCiudadUseCase(final CiudadRepository ciudadRepository,
-            final DepartamentoRepository departamentoRepository, final CiudadApplicationMapper mapper) {
+            final DepartamentoRepository departamentoRepository, final CiudadApplicationMapper mapper,
+            final GeografiaCachePort geografiaCache) {
         this.ciudadRepository = ciudadRepository;
         this.departamentoRepository = departamentoRepository;
         this.mapper = mapper;
+        this.geografiaCache = geografiaCache;
     }
 
     @Override
@@ -36,6 +40,7 @@ public class UpdateCiudadUseCase implements UseCase<CiudadUpdateRequest, CiudadR
                         .switchIfEmpty(Mono.error(new ApplicationException("Departamento no encontrado")))
                         .map(departamento -> existente.update(request.nombre(), departamento)))
                 .flatMap(ciudadRepository::save)
+                .flatMap(saved -> geografiaCache.evictCiudad(saved.getId()).thenReturn(saved))
                 .map(mapper::toResponse);
     }
 }
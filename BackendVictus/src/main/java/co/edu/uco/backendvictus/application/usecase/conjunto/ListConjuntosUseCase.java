@@ -1,15 +1,15 @@
 package co.edu.uco.backendvictus.application.usecase.conjunto;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import co.edu.uco.backendvictus.application.dto.conjunto.ConjuntoResponse;
+import co.edu.uco.backendvictus.application.dto.common.PageCursor;
 import co.edu.uco.backendvictus.application.dto.common.PageResponse;
 import co.edu.uco.backendvictus.application.mapper.ConjuntoApplicationMapper;
 import co.edu.uco.backendvictus.application.port.out.conjunto.ConjuntoRepositoryPort;
@@ -34,26 +34,44 @@ public class ListConjuntosUseCase {
         return conjuntoRepository.findAllWithNames().map(mapper::toResponse);
     }
 
-    public Flux<ConjuntoResponse> executeFiltered(final UUID departamentoId, final UUID ciudadId, final String nombre) {
-        final boolean hasNombre = nombre != null && !nombre.isBlank();
-        Flux<ConjuntoResidencial> flux;
-
-        if (departamentoId == null && ciudadId == null) {
-            flux = hasNombre ? conjuntoRepository.findByNombre(nombre) : conjuntoRepository.findAllWithNames();
-        } else if (departamentoId != null && ciudadId == null) {
-            flux = conjuntoRepository.findByDepartamentoId(departamentoId);
-        } else if (departamentoId == null) {
-            flux = conjuntoRepository.findByCiudadId(ciudadId);
-        } else {
-            flux = conjuntoRepository.findByDepartamentoIdAndCiudadId(departamentoId, ciudadId);
-        }
+    public Mono<PageResponse<ConjuntoResponse>> executeFiltered(final UUID departamentoId, final UUID ciudadId,
+            final String nombre, final int page, final int size) {
+        final int sanitizedPage = Math.max(page, 0);
+        final int sanitizedSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        final String sanitizedNombre = nombre == null || nombre.isBlank() ? null : nombre;
+
+        return conjuntoRepository.countFiltered(departamentoId, ciudadId, sanitizedNombre)
+                .flatMap(total -> {
+                    if (total <= (long) sanitizedPage * sanitizedSize) {
+                        return Mono.just(PageResponse.<ConjuntoResponse>of(List.of(), total, sanitizedPage,
+                                sanitizedSize));
+                    }
+                    return conjuntoRepository
+                            .findFiltered(departamentoId, ciudadId, sanitizedNombre, sanitizedPage, sanitizedSize)
+                            .map(mapper::toResponse)
+                            .collectList()
+                            .map(items -> PageResponse.of(items, total, sanitizedPage, sanitizedSize));
+                });
+    }
 
-        if (hasNombre && (departamentoId != null || ciudadId != null)) {
-            final String normalized = nombre.toLowerCase();
-            flux = flux.filter(conjunto -> conjunto.getNombre().toLowerCase().contains(normalized));
+    public Mono<PageResponse<ConjuntoResponse>> executeSearch(final String term, final int page, final int size) {
+        final int sanitizedPage = Math.max(page, 0);
+        final int sanitizedSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        if (term == null || term.isBlank()) {
+            return Mono.just(PageResponse.of(List.of(), 0, sanitizedPage, sanitizedSize));
         }
 
-        return flux.map(mapper::toResponse);
+        return conjuntoRepository.countSearchByNombre(term)
+                .flatMap(total -> {
+                    if (total <= (long) sanitizedPage * sanitizedSize) {
+                        return Mono.just(PageResponse.<ConjuntoResponse>of(List.of(), total, sanitizedPage,
+                                sanitizedSize));
+                    }
+                    return conjuntoRepository.searchByNombre(term, sanitizedPage, sanitizedSize)
+                            .map(mapper::toResponse)
+                            .collectList()
+                            .map(items -> PageResponse.of(items, total, sanitizedPage, sanitizedSize));
+                });
     }
 
     public Mono<PageResponse<ConjuntoResponse>> executePaged(final int page, final int size) {
@@ -67,19 +85,37 @@ public class ListConjuntosUseCase {
                         .map(items -> PageResponse.of(items, total, sanitizedPage, sanitizedSize)));
     }
 
-    public Mono<PageResponse<ConjuntoResponse>> buildFilteredPage(final Flux<ConjuntoResponse> filteredFlux,
-            final int page, final int size) {
-        final int sanitizedPage = Math.max(page, 0);
+    public Mono<PageResponse<ConjuntoResponse>> executeKeyset(final String cursor, final int size) {
         final int sanitizedSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        // Deferred so a malformed cursor is reported as an error signal, like every other failure here.
+        return Mono.defer(() -> keysetPage(
+                cursor == null || cursor.isBlank() ? null : PageCursor.decode(cursor), sanitizedSize));
+    }
+
+    private Mono<PageResponse<ConjuntoResponse>> keysetPage(final PageCursor after, final int size) {
+        // One extra row tells whether another page exists without a second query.
+        final Mono<List<ConjuntoResidencial>> rows = conjuntoRepository
+                .findAllWithNamesAfter(after == null ? null : after.nombre(), after == null ? null : after.id(),
+                        size + 1)
+                .collectList();
+
+        // Counting scans the whole table, so only the first page pays for it; later pages carry no total.
+        if (after != null) {
+            return rows.map(fetched -> toKeysetPage(fetched, null, size));
+        }
+        return Mono.zip(conjuntoRepository.countAll(), rows)
+                .map(tuple -> toKeysetPage(tuple.getT2(), tuple.getT1(), size));
+    }
 
-        return filteredFlux.collectList()
-                .map(items -> paginate(items, sanitizedPage, sanitizedSize));
+    private PageResponse<ConjuntoResponse> toKeysetPage(final List<ConjuntoResidencial> fetched, final Long total,
+            final int size) {
+        final boolean hasNext = fetched.size() > size;
+        final List<ConjuntoResidencial> pageRows = hasNext ? fetched.subList(0, size) : fetched;
+        final String nextCursor = hasNext ? toCursor(pageRows.get(pageRows.size() - 1)) : null;
+        return PageResponse.ofCursor(pageRows.stream().map(mapper::toResponse).toList(), total, size, nextCursor);
     }
 
-    private PageResponse<ConjuntoResponse> paginate(final List<ConjuntoResponse> items, final int page, final int size) {
-        final int fromIndex = Math.min(page * size, items.size());
-        final int toIndex = Math.min(fromIndex + size, items.size());
-        final List<ConjuntoResponse> pageItems = items.subList(fromIndex, toIndex);
-        return PageResponse.of(pageItems, items.size(), page, size);
+    private static String toCursor(final ConjuntoResidencial conjunto) {
+        return new PageCursor(conjunto.getNombre(), conjunto.getId()).encode();
     }
 }
@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 
 import reactor.core.publisher.Mono;
 
+import co.edu.uco.backendvictus.application.port.out.geografia.GeografiaCachePort;
 import co.edu.uco.backendvictus.crosscutting.exception.ApplicationException;
 import co.edu.uco.backendvictus.domain.port.DepartamentoRepository;
 
@@ -13,14 +14,18 @@ import co.edu.uco.backendvictus.domain.port.DepartamentoRepository;
 public class DeleteDepartamentoUseCase {
 
     private final DepartamentoRepository departamentoRepository;
+    private final GeografiaCachePort geografiaCache;
 
-    public DeleteDepartamentoUseCase(final DepartamentoRepository departamentoRepository) {
+    public DeleteDepartamentoUseCase(final DepartamentoRepository departamentoRepository,
+            final GeografiaCachePort geografiaCache) {
         this.departamentoRepository = departamentoRepository;
+        this.geografiaCache = geografiaCache;
     }
 
     public Mono<Void> execute(final UUID id) {
         return departamentoRepository.findById(id)
                 .switchIfEmpty(Mono.error(new ApplicationException("Departamento no encontrado")))
-                .then(departamentoRepository.deleteById(id));
+                .then(departamentoRepository.deleteById(id))
+                .then(geografiaCache.evictDepartamento(id));
     }
 }
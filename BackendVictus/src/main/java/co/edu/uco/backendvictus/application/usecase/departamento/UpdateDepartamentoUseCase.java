@@ -7,6 +7,7 @@ import reactor.core.publisher.Mono;
 import co.edu.uco.backendvictus.application.dto.departamento.DepartamentoResponse;
 import co.edu.uco.backendvictus.application.dto.departamento.DepartamentoUpdateRequest;
 import co.edu.uco.backendvictus.application.mapper.DepartamentoApplicationMapper;
+import co.edu.uco.backendvictus.application.port.out.geografia.GeografiaCachePort;
 import co.edu.uco.backendvictus.application.usecase.UseCase;
 import co.edu.uco.backendvictus.crosscutting.exception.ApplicationException;
 import co.edu.uco.backendvictus.domain.model.Departamento;
@@ -20,12 +21,15 @@ public class UpdateDepartamentoUseCase implements UseCase<DepartamentoUpdateRequ
     private final DepartamentoRepository departamentoRepository;
     private final PaisRepository paisRepository;
     private final DepartamentoApplicationMapper mapper;
+    private final GeografiaCachePort geografiaCache;
 
     public UpdateDepartamentoUseCase(final DepartamentoRepository departamentoRepository,
-            final PaisRepository paisRepository, final DepartamentoApplicationMapper mapper) {
+            final PaisRepository paisRepository, final DepartamentoApplicationMapper mapper,
+            final GeografiaCachePort geografiaCache) {
         this.departamentoRepository = departamentoRepository;
         this.paisRepository = paisRepository;
         this.mapper = mapper;
+        this.geografiaCache = geografiaCache;
     }
 
     @Override
@@ -36,6 +40,7 @@ public class UpdateDepartamentoUseCase implements UseCase<DepartamentoUpdateRequ
                         .switchIfEmpty(Mono.error(new ApplicationException("Pais no encontrado")))
                         .map(pais -> existente.update(request.nombre(), pais)))
                 .flatMap(departamentoRepository::save)
+                .flatMap(saved -> geografiaCache.evictDepartamento(saved.getId()).thenReturn(saved))
                 .map(mapper::toResponse);
     }
 }
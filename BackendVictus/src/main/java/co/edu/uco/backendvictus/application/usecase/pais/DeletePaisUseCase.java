@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 
 import reactor.core.publisher.Mono;
 
+import co.edu.uco.backendvictus.application.port.out.geografia.GeografiaCachePort;
 import co.edu.uco.backendvictus.crosscutting.exception.ApplicationException;
 import co.edu.uco.backendvictus.domain.port.PaisRepository;
 
@@ -13,14 +14,17 @@ import co.edu.uco.backendvictus.domain.port.PaisRepository;
 public class DeletePaisUseCase {
 
     private final PaisRepository repository;
+    private final GeografiaCachePort geografiaCache;
 
-    public DeletePaisUseCase(final PaisRepository repository) {
+    public DeletePaisUseCase(final PaisRepository repository, final GeografiaCachePort geografiaCache) {
         this.repository = repository;
+        this.geografiaCache = geografiaCache;
     }
 
     public Mono<Void> execute(final UUID id) {
         return repository.findById(id)
                 .switchIfEmpty(Mono.error(new ApplicationException("Pais no encontrado")))
-                .then(repository.deleteById(id));
+                .then(repository.deleteById(id))
+                .then(geografiaCache.evictPais(id));
     }
 }
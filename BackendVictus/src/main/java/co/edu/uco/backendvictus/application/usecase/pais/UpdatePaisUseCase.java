@@ -7,6 +7,7 @@ import reactor.core.publisher.Mono;
 import co.edu.uco.backendvictus.application.dto.pais.PaisResponse;
 import co.edu.uco.backendvictus.application.dto.pais.PaisUpdateRequest;
 import co.edu.uco.backendvictus.application.mapper.PaisApplicationMapper;
+import co.edu.uco.backendvictus.application.port.out.geografia.GeografiaCachePort;
 import co.edu.uco.backendvictus.application.usecase.UseCase;
 import co.edu.uco.backendvictus.crosscutting.exception.ApplicationException;
 import co.edu.uco.backendvictus.domain.model.Pais;
@@ -17,10 +18,13 @@ public class UpdatePaisUseCase implements UseCase<PaisUpdateRequest, PaisRespons
 
     private final PaisRepository repository;
     private final PaisApplicationMapper mapper;
+    private final GeografiaCachePort geografiaCache;
 
-    public UpdatePaisUseCase(final PaisRepository repository, final PaisApplicationMapper mapper) {
+    public UpdatePaisUseCase(final PaisRepository repository, final PaisApplicationMapper mapper,
+            final GeografiaCachePort geografiaCache) {
         this.repository = repository;
         this.mapper = mapper;
+        this.geografiaCache = geografiaCache;
     }
 
     @Override
@@ -29,6 +33,7 @@ public class UpdatePaisUseCase implements UseCase<PaisUpdateRequest, PaisRespons
                 .switchIfEmpty(Mono.error(new ApplicationException("Pais no encontrado")))
                 .map(existing -> existing.update(request.nombre()))
                 .flatMap(repository::save)
+                .flatMap(saved -> geografiaCache.evictPais(saved.getId()).thenReturn(saved))
                 .map(mapper::toResponse);
     }
 }
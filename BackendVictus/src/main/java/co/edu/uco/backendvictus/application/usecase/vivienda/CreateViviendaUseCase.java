@@ -50,15 +50,14 @@ public class CreateViviendaUseCase implements UseCase<ViviendaCreateRequest, Viv
 
     @Override
     public Mono<ViviendaResponse> execute(final ViviendaCreateRequest request) {
-        return parameterClient.get("vivienda.max.limit")
-                .doOnNext(p -> LOGGER.info("ParameterService → parámetro 'vivienda.max.limit' = {} (source={})", p.value(), p.source()))
-                .then(
-                        conjuntoRepository.findById(request.conjuntoId())
-                                .switchIfEmpty(Mono.error(new ApplicationException("Conjunto residencial no encontrado", "backend")))
-                                .flatMap(conjunto -> buildAndValidate(request, conjunto)
-                                        .flatMap(viviendaRepository::save))
-                                .map(mapper::toResponse)
-                );
+        // Lectura del snapshot local de parámetros: sin salto de red en el camino de la petición.
+        final long maxLimit = parameterClient.getLong("vivienda.max.limit", -1L);
+        LOGGER.debug("Parámetro 'vivienda.max.limit' = {}", maxLimit);
+        return conjuntoRepository.findById(request.conjuntoId())
+                .switchIfEmpty(Mono.error(new ApplicationException("Conjunto residencial no encontrado", "backend")))
+                .flatMap(conjunto -> buildAndValidate(request, conjunto)
+                        .flatMap(viviendaRepository::save))
+                .map(mapper::toResponse);
     }
 
     private Mono<Vivienda> buildAndValidate(final ViviendaCreateRequest request,
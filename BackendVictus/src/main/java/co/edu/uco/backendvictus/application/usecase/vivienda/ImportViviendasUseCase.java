@@ -0,0 +1,147 @@
+package co.edu.uco.backendvictus.application.usecase.vivienda;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import co.edu.uco.backendvictus.application.dto.vivienda.ViviendaBulkResponse;
+import co.edu.uco.backendvictus.application.dto.vivienda.ViviendaBulkResult;
+import co.edu.uco.backendvictus.application.dto.vivienda.ViviendaCreateRequest;
+import co.edu.uco.backendvictus.application.mapper.ViviendaApplicationMapper;
+import co.edu.uco.backendvictus.application.port.out.conjunto.ConjuntoRepositoryPort;
+import co.edu.uco.backendvictus.application.usecase.UseCase;
+import co.edu.uco.backendvictus.crosscutting.exception.ApplicationException;
+import co.edu.uco.backendvictus.crosscutting.exception.DomainException;
+import co.edu.uco.backendvictus.crosscutting.helpers.LoggerHelper;
+import co.edu.uco.backendvictus.domain.model.Vivienda;
+import co.edu.uco.backendvictus.domain.model.conjunto.ConjuntoResidencial;
+import co.edu.uco.backendvictus.domain.port.ViviendaRepository;
+
+/**
+ * Creates many viviendas in one request. Rows are validated individually; duplicates are detected with one query per
+ * conjunto and all valid rows are inserted together in a single transaction. A numero inserted concurrently between
+ * that query and the insert trips the unique (conjunto_id, numero) index and rolls the whole import back.
+ */
+@Service
+public class ImportViviendasUseCase implements UseCase<List<ViviendaCreateRequest>, ViviendaBulkResponse> {
+
+    private static final Logger LOGGER = LoggerHelper.getLogger(ImportViviendasUseCase.class);
+
+    public static final int MAX_ROWS = 5000;
+
+    private final ViviendaRepository viviendaRepository;
+    private final ConjuntoRepositoryPort conjuntoRepository;
+    private final ViviendaApplicationMapper mapper;
+
+    public ImportViviendasUseCase(final ViviendaRepository viviendaRepository,
+            final ConjuntoRepositoryPort conjuntoRepository, final ViviendaApplicationMapper mapper) {
+        this.viviendaRepository = viviendaRepository;
+        this.conjuntoRepository = conjuntoRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Mono<ViviendaBulkResponse> execute(final List<ViviendaCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return Mono.error(new ApplicationException("La carga masiva no contiene viviendas"));
+        }
+        if (requests.size() > MAX_ROWS) {
+            return Mono.error(new ApplicationException(
+                    "La carga masiva admite como maximo " + MAX_ROWS + " viviendas"));
+        }
+
+        return Flux.fromIterable(new HashSet<>(requests.stream()
+                        .map(ViviendaCreateRequest::conjuntoId)
+                        .filter(Objects::nonNull)
+                        .toList()))
+                .flatMap(conjuntoRepository::findById)
+                .collectMap(ConjuntoResidencial::getId)
+                .flatMap(conjuntos -> importRows(requests, conjuntos));
+    }
+
+    private Mono<ViviendaBulkResponse> importRows(final List<ViviendaCreateRequest> requests,
+            final Map<UUID, ConjuntoResidencial> conjuntos) {
+        final List<ViviendaBulkResult> results = new ArrayList<>();
+        final Map<Integer, Vivienda> candidates = new LinkedHashMap<>();
+        final Set<String> seen = new HashSet<>();
+
+        for (int row = 0; row < requests.size(); row++) {
+            final ViviendaCreateRequest request = requests.get(row);
+            final ConjuntoResidencial conjunto = request.conjuntoId() == null ? null
+                    : conjuntos.get(request.conjuntoId());
+            if (conjunto == null) {
+                results.add(ViviendaBulkResult.rejected(row, request.numero(), "Conjunto residencial no encontrado"));
+                continue;
+            }
+            final Vivienda vivienda;
+            try {
+                vivienda = mapper.toDomain(null, request, conjunto);
+            } catch (final DomainException exception) {
+                results.add(ViviendaBulkResult.rejected(row, request.numero(), exception.getMessage()));
+                continue;
+            }
+            if (!seen.add(conjunto.getId() + "|" + vivienda.getNumero())) {
+                results.add(ViviendaBulkResult.rejected(row, vivienda.getNumero(),
+                        "El numero de vivienda esta repetido en la carga"));
+                continue;
+            }
+            candidates.put(row, vivienda);
+        }
+
+        return findExisting(candidates)
+                .flatMap(existing -> {
+                    final Map<Integer, Vivienda> accepted = new LinkedHashMap<>();
+                    candidates.forEach((row, vivienda) -> {
+                        if (existing.contains(vivienda.getConjunto().getId() + "|" + vivienda.getNumero())) {
+                            results.add(ViviendaBulkResult.rejected(row, vivienda.getNumero(),
+                                    "Ya existe una vivienda con ese número en el conjunto."));
+                        } else {
+                            accepted.put(row, vivienda);
+                        }
+                    });
+                    return save(accepted, results);
+                })
+                .map(created -> {
+                    results.sort(Comparator.comparingInt(ViviendaBulkResult::row));
+                    LOGGER.info("Carga masiva de viviendas: {} creadas, {} rechazadas", created,
+                            results.size() - created);
+                    return new ViviendaBulkResponse(requests.size(), created, results.size() - created, results);
+                });
+    }
+
+    // One lookup per conjunto covering every candidate numero, instead of one findByConjuntoAndNumero per row.
+    private Mono<Set<String>> findExisting(final Map<Integer, Vivienda> candidates) {
+        final Map<UUID, List<String>> numerosByConjunto = new LinkedHashMap<>();
+        candidates.values().forEach(vivienda -> numerosByConjunto
+                .computeIfAbsent(vivienda.getConjunto().getId(), id -> new ArrayList<>())
+                .add(vivienda.getNumero()));
+        return Flux.fromIterable(numerosByConjunto.entrySet())
+                .concatMap(entry -> viviendaRepository.findExistingNumeros(entry.getKey(), entry.getValue())
+                        .map(numero -> entry.getKey() + "|" + numero))
+                .collect(HashSet::new, Set::add);
+    }
+
+    private Mono<Integer> save(final Map<Integer, Vivienda> accepted, final List<ViviendaBulkResult> results) {
+        if (accepted.isEmpty()) {
+            return Mono.just(0);
+        }
+        final List<Integer> rows = new ArrayList<>(accepted.keySet());
+        return viviendaRepository.saveAll(new ArrayList<>(accepted.values()))
+                .index()
+                .doOnNext(saved -> results.add(ViviendaBulkResult.created(rows.get(saved.getT1().intValue()),
+                        mapper.toResponse(saved.getT2()))))
+                .count()
+                .map(Long::intValue);
+    }
+}
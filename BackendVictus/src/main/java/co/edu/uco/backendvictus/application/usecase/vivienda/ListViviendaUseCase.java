@@ -1,5 +1,6 @@
 package co.edu.uco.backendvictus.application.usecase.vivienda;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
@@ -43,9 +44,15 @@ public class ListViviendaUseCase {
                 .orElse(null);
 
         return viviendaRepository.countByFilters(request.conjuntoId(), estado, tipo, numero)
-                .flatMap(total -> viviendaRepository.findByFilters(request.conjuntoId(), estado, tipo, numero, page, size)
-                        .map(mapper::toResponse)
-                        .collectList()
-                        .map(items -> new ViviendaPageResponse(items, total, page, size)));
+                .flatMap(total -> {
+                    // Skip the page query when the requested page lies beyond the filtered total.
+                    if (total <= (long) page * size) {
+                        return Mono.just(new ViviendaPageResponse(List.of(), total, page, size));
+                    }
+                    return viviendaRepository.findByFilters(request.conjuntoId(), estado, tipo, numero, page, size)
+                            .map(mapper::toResponse)
+                            .collectList()
+                            .map(items -> new ViviendaPageResponse(items, total, page, size));
+                });
     }
 }
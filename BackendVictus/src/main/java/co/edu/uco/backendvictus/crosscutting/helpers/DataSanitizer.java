@@ -7,12 +7,46 @@ import java.text.Normalizer;
  */
 public final class DataSanitizer {
 
+    // Code points below this bound are decomposed once at class load; the rest go through Normalizer on demand.
+    private static final int DECOMPOSED_TABLE_SIZE = 0x0250;
+    private static final int MAX_RETAINED_BUFFER = 1024;
+
+    private static final boolean[] ALLOWED = new boolean[128];
+    private static final boolean[] WHITESPACE = new boolean[128];
+    private static final char[] DECOMPOSED = new char[DECOMPOSED_TABLE_SIZE];
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(64));
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            ALLOWED[c] = true;
+            ALLOWED[Character.toUpperCase(c)] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            ALLOWED[c] = true;
+        }
+        ALLOWED['@'] = true;
+        ALLOWED['.'] = true;
+        ALLOWED['_'] = true;
+        ALLOWED['-'] = true;
+        for (final char c : new char[] {' ', '\t', '\n', '\u000B', '\f', '\r'}) {
+            WHITESPACE[c] = true;
+        }
+        for (int codePoint = 0x80; codePoint < DECOMPOSED_TABLE_SIZE; codePoint++) {
+            final String decomposed = Normalizer.normalize(String.valueOf((char) codePoint), Normalizer.Form.NFD);
+            final char base = decomposed.charAt(0);
+            DECOMPOSED[codePoint] = base < 128 && ALLOWED[base] ? base : 0;
+        }
+    }
+
     private DataSanitizer() {
         // Utility class
     }
 
     /**
      * Removes leading/trailing spaces, replaces multiple spaces with a single one and strips dangerous characters.
+     * Diacritics are dropped (á → a) and only ASCII letters, digits, whitespace and {@code @._-} are kept.
+     * Already clean input is returned as is.
      *
      * @param rawValue raw input provided by clients
      * @return sanitized text safe to be stored in the domain
@@ -21,12 +55,69 @@ public final class DataSanitizer {
         if (rawValue == null) {
             return null;
         }
+        if (isClean(rawValue)) {
+            return rawValue;
+        }
 
-        String value = Normalizer.normalize(rawValue, Normalizer.Form.NFD)
-                .replaceAll("\\p{M}", "") // remove diacritics
-                .replaceAll("[^\\p{Alnum}\\s@._-]", "");
-        value = value.trim();
-        value = value.replaceAll("\\s+", " ");
-        return value;
+        final StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        boolean pendingSpace = false;
+        for (int i = 0; i < rawValue.length(); ) {
+            final int codePoint = rawValue.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (codePoint < 128) {
+                pendingSpace = append(buffer, (char) codePoint, pendingSpace);
+            } else if (codePoint < DECOMPOSED_TABLE_SIZE) {
+                final char base = DECOMPOSED[codePoint];
+                if (base != 0) {
+                    pendingSpace = append(buffer, base, pendingSpace);
+                }
+            } else {
+                final String decomposed = Normalizer.normalize(new String(Character.toChars(codePoint)),
+                        Normalizer.Form.NFD);
+                for (int j = 0; j < decomposed.length(); j++) {
+                    final char c = decomposed.charAt(j);
+                    if (c < 128) {
+                        pendingSpace = append(buffer, c, pendingSpace);
+                    }
+                }
+            }
+        }
+
+        final String sanitized = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return sanitized;
+    }
+
+    // Whitespace is only emitted, as a single space, once a following kept character shows it is not trailing.
+    private static boolean append(final StringBuilder buffer, final char c, final boolean pendingSpace) {
+        if (WHITESPACE[c]) {
+            return buffer.length() > 0;
+        }
+        if (!ALLOWED[c]) {
+            return pendingSpace;
+        }
+        if (pendingSpace) {
+            buffer.append(' ');
+        }
+        buffer.append(c);
+        return false;
+    }
+
+    private static boolean isClean(final String value) {
+        final int last = value.length() - 1;
+        for (int i = 0; i <= last; i++) {
+            final char c = value.charAt(i);
+            if (c == ' ') {
+                if (i == 0 || i == last || value.charAt(i - 1) == ' ') {
+                    return false;
+                }
+            } else if (c >= 128 || !ALLOWED[c]) {
+                return false;
+            }
+        }
+        return true;
     }
 }
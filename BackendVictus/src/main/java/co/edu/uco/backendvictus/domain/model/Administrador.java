@@ -20,23 +20,36 @@ public final class Administrador {
     private Administrador(final UUID id, final String primerNombre, final String segundoNombres,
             final String primerApellido, final String segundoApellido, final String email, final String telefono) {
         this.id = id; //ValidationUtils.validateUUID(id, "Id del administrador");
-        this.primerNombre = ValidationUtils.validateRequiredText(primerNombre, "Primer nombre", 60);
-        this.segundoNombres = ValidationUtils.validateOptionalText(segundoNombres, "Segundo nombres", 100);
-        this.primerApellido = ValidationUtils.validateRequiredText(primerApellido, "Primer apellido", 60);
-        this.segundoApellido = ValidationUtils.validateOptionalText(segundoApellido, "Segundo apellido", 60);
-        this.email = ValidationUtils.validateEmail(email);
-        this.telefono = ValidationUtils.validateOptionalText(telefono, "Telefono", 20);
+        this.primerNombre = primerNombre;
+        this.segundoNombres = segundoNombres;
+        this.primerApellido = primerApellido;
+        this.segundoApellido = segundoApellido;
+        this.email = email;
+        this.telefono = telefono;
     }
 
     public static Administrador create(final UUID id, final String primerNombre, final String segundoNombres,
             final String primerApellido, final String segundoApellido, final String email, final String telefono) {
+        return new Administrador(id,
+                ValidationUtils.validateRequiredText(primerNombre, "Primer nombre", 60),
+                ValidationUtils.validateOptionalText(segundoNombres, "Segundo nombres", 100),
+                ValidationUtils.validateRequiredText(primerApellido, "Primer apellido", 60),
+                ValidationUtils.validateOptionalText(segundoApellido, "Segundo apellido", 60),
+                ValidationUtils.validateEmail(email),
+                ValidationUtils.validateOptionalText(telefono, "Telefono", 20));
+    }
+
+    /**
+     * Rebuilds a persisted administrator without re-running write-time validation. Only for persistence adapters.
+     */
+    public static Administrador rehydrate(final UUID id, final String primerNombre, final String segundoNombres,
+            final String primerApellido, final String segundoApellido, final String email, final String telefono) {
         return new Administrador(id, primerNombre, segundoNombres, primerApellido, segundoApellido, email, telefono);
     }
 
     public Administrador update(final String primerNombre, final String segundoNombres, final String primerApellido,
             final String segundoApellido, final String email, final String telefono) {
-        return new Administrador(this.id, primerNombre, segundoNombres, primerApellido, segundoApellido, email,
-                telefono);
+        return create(this.id, primerNombre, segundoNombres, primerApellido, segundoApellido, email, telefono);
     }
 
     public UUID getId() {
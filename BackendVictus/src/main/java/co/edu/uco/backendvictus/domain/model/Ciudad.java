@@ -17,19 +17,27 @@ public final class Ciudad {
 
     private Ciudad(final UUID id, final String nombre, final Departamento departamento) {
         this.id = id; //ValidationUtils.validateUUID(id, "Id de la ciudad");
-        this.nombre = ValidationUtils.validateRequiredText(nombre, "Nombre de la ciudad", 120);
+        this.nombre = nombre;
         this.departamento = departamento;
+    }
 
-        SpecificationValidator.check(CiudadTieneDepartamentoSpecification.INSTANCE, this,
+    public static Ciudad create(final UUID id, final String nombre, final Departamento departamento) {
+        final Ciudad ciudad = new Ciudad(id, ValidationUtils.validateRequiredText(nombre, "Nombre de la ciudad", 120),
+                departamento);
+        SpecificationValidator.check(CiudadTieneDepartamentoSpecification.INSTANCE, ciudad,
                 "La ciudad debe pertenecer a un departamento valido");
+        return ciudad;
     }
 
-    public static Ciudad create(final UUID id, final String nombre, final Departamento departamento) {
+    /**
+     * Rebuilds a persisted city without re-running write-time validation. Only for persistence adapters.
+     */
+    public static Ciudad rehydrate(final UUID id, final String nombre, final Departamento departamento) {
         return new Ciudad(id, nombre, departamento);
     }
 
     public Ciudad update(final String nombre, final Departamento departamento) {
-        return new Ciudad(this.id, nombre, departamento);
+        return create(this.id, nombre, departamento);
     }
 
     public UUID getId() {
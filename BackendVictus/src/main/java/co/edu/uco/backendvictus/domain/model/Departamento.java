@@ -17,19 +17,27 @@ public final class Departamento {
 
     private Departamento(final UUID id, final String nombre, final Pais pais) {
         this.id = id; //ValidationUtils.validateUUID(id, "Id del departamento");
-        this.nombre = ValidationUtils.validateRequiredText(nombre, "Nombre del departamento", 120);
+        this.nombre = nombre;
         this.pais = pais;
+    }
 
-        SpecificationValidator.check(DepartamentoTienePaisSpecification.INSTANCE, this,
+    public static Departamento create(final UUID id, final String nombre, final Pais pais) {
+        final Departamento departamento = new Departamento(id,
+                ValidationUtils.validateRequiredText(nombre, "Nombre del departamento", 120), pais);
+        SpecificationValidator.check(DepartamentoTienePaisSpecification.INSTANCE, departamento,
                 "El departamento debe pertenecer a un pais valido");
+        return departamento;
     }
 
-    public static Departamento create(final UUID id, final String nombre, final Pais pais) {
+    /**
+     * Rebuilds a persisted department without re-running write-time validation. Only for persistence adapters.
+     */
+    public static Departamento rehydrate(final UUID id, final String nombre, final Pais pais) {
         return new Departamento(id, nombre, pais);
     }
 
     public Departamento update(final String nombre, final Pais pais) {
-        return new Departamento(this.id, nombre, pais);
+        return create(this.id, nombre, pais);
     }
 
     public UUID getId() {
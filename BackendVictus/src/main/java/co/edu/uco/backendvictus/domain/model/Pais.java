@@ -14,15 +14,22 @@ public final class Pais {
 
     private Pais(final UUID id, final String nombre) {
         this.id = id; //ValidationUtils.validateUUID(id, "Id del pais");
-        this.nombre = ValidationUtils.validateRequiredText(nombre, "Nombre del pais", 120);
+        this.nombre = nombre;
     }
 
     public static Pais create(final UUID id, final String nombre) {
+        return new Pais(id, ValidationUtils.validateRequiredText(nombre, "Nombre del pais", 120));
+    }
+
+    /**
+     * Rebuilds a persisted country without re-running write-time validation. Only for persistence adapters.
+     */
+    public static Pais rehydrate(final UUID id, final String nombre) {
         return new Pais(id, nombre);
     }
 
     public Pais update(final String nombre) {
-        return new Pais(this.id, nombre);
+        return create(this.id, nombre);
     }
 
     public UUID getId() {
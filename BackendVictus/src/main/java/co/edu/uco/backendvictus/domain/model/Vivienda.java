@@ -21,27 +21,42 @@ public final class Vivienda {
     private Vivienda(final UUID id, final String numero, final ViviendaTipo tipo, final ViviendaEstado estado,
             final ConjuntoResidencial conjunto) {
         this.id = id; //ValidationUtils.validateUUID(id, "Id de la vivienda");
-        this.numero = ValidationUtils.validateRequiredText(numero, "Numero de la vivienda", 10).toUpperCase();
+        this.numero = numero;
         this.tipo = tipo;
         this.estado = estado;
         this.conjunto = conjunto;
-
-        SpecificationValidator.check(ViviendaTieneConjuntoSpecification.INSTANCE, this,
-                "La vivienda debe pertenecer a un conjunto residencial valido");
     }
 
     public static Vivienda create(final UUID id, final String numero, final ViviendaTipo tipo,
             final ViviendaEstado estado, final ConjuntoResidencial conjunto) {
-        return new Vivienda(id, numero, tipo, estado == null ? ViviendaEstado.DISPONIBLE : estado, conjunto);
+        return validated(id, numero, tipo, estado == null ? ViviendaEstado.DISPONIBLE : estado, conjunto);
+    }
+
+    /**
+     * Rebuilds a persisted unit without re-running write-time validation. Only for persistence adapters.
+     */
+    public static Vivienda rehydrate(final UUID id, final String numero, final ViviendaTipo tipo,
+            final ViviendaEstado estado, final ConjuntoResidencial conjunto) {
+        return new Vivienda(id, numero, tipo, estado, conjunto);
     }
 
     public Vivienda update(final String numero, final ViviendaTipo tipo, final ViviendaEstado estado,
             final ConjuntoResidencial conjunto) {
-        return new Vivienda(this.id, numero, tipo, estado, conjunto);
+        return validated(this.id, numero, tipo, estado, conjunto);
     }
 
     public Vivienda changeEstado(final ViviendaEstado nuevoEstado) {
-        return new Vivienda(this.id, this.numero, this.tipo, nuevoEstado, this.conjunto);
+        return validated(this.id, this.numero, this.tipo, nuevoEstado, this.conjunto);
+    }
+
+    private static Vivienda validated(final UUID id, final String numero, final ViviendaTipo tipo,
+            final ViviendaEstado estado, final ConjuntoResidencial conjunto) {
+        final Vivienda vivienda = new Vivienda(id,
+                ValidationUtils.validateRequiredText(numero, "Numero de la vivienda", 10).toUpperCase(), tipo,
+                estado, conjunto);
+        SpecificationValidator.check(ViviendaTieneConjuntoSpecification.INSTANCE, vivienda,
+                "La vivienda debe pertenecer a un conjunto residencial valido");
+        return vivienda;
     }
 
     public UUID getId() {
@@ -1,6 +1,7 @@
 package co.edu.uco.backendvictus.domain.model;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import co.edu.uco.backendvictus.crosscutting.exception.DomainException;
 import co.edu.uco.backendvictus.crosscutting.helpers.DataSanitizer;
@@ -15,6 +16,17 @@ public enum ViviendaEstado {
     EN_MANTENIMIENTO("En mantenimiento"),
     INACTIVA("Inactiva");
 
+    // Canonical values are what the database stores; normalized keys cover user input (case, accents, spaces).
+    private static final Map<String, ViviendaEstado> BY_VALUE = new HashMap<>();
+    private static final Map<String, ViviendaEstado> BY_NORMALIZED = new HashMap<>();
+
+    static {
+        for (final ViviendaEstado estado : values()) {
+            BY_VALUE.put(estado.value, estado);
+            BY_NORMALIZED.put(estado.normalized, estado);
+        }
+    }
+
     private final String value;
     private final String normalized;
 
@@ -27,12 +39,20 @@ public enum ViviendaEstado {
         return value;
     }
 
+    /**
+     * Resolves a stored value with a single hash probe; anything else, such as user input or rows written before
+     * values were canonical, is normalized first.
+     */
     public static ViviendaEstado from(final String rawValue) {
-        final String normalizedInput = normalize(rawValue);
-        return Arrays.stream(values())
-                .filter(estado -> estado.normalized.equals(normalizedInput))
-                .findFirst()
-                .orElseThrow(() -> new DomainException("Estado de la vivienda no es valido"));
+        final ViviendaEstado exact = rawValue == null ? null : BY_VALUE.get(rawValue);
+        if (exact != null) {
+            return exact;
+        }
+        final ViviendaEstado estado = BY_NORMALIZED.get(normalize(rawValue));
+        if (estado == null) {
+            throw new DomainException("Estado de la vivienda no es valido");
+        }
+        return estado;
     }
 
     private static String normalize(final String value) {
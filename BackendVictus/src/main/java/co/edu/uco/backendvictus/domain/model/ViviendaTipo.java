@@ -1,6 +1,7 @@
 package co.edu.uco.backendvictus.domain.model;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import co.edu.uco.backendvictus.crosscutting.exception.DomainException;
 import co.edu.uco.backendvictus.crosscutting.helpers.DataSanitizer;
@@ -15,6 +16,17 @@ public enum ViviendaTipo {
     ESTUDIO("Estudio"),
     DUPLEX("Dúplex");
 
+    // Canonical values are what the database stores; normalized keys cover user input (case, accents, spaces).
+    private static final Map<String, ViviendaTipo> BY_VALUE = new HashMap<>();
+    private static final Map<String, ViviendaTipo> BY_NORMALIZED = new HashMap<>();
+
+    static {
+        for (final ViviendaTipo tipo : values()) {
+            BY_VALUE.put(tipo.value, tipo);
+            BY_NORMALIZED.put(tipo.normalized, tipo);
+        }
+    }
+
     private final String value;
     private final String normalized;
 
@@ -27,12 +39,20 @@ public enum ViviendaTipo {
         return value;
     }
 
+    /**
+     * Resolves a stored value with a single hash probe; anything else, such as user input or rows written before
+     * values were canonical, is normalized first.
+     */
     public static ViviendaTipo from(final String rawValue) {
-        final String normalizedInput = normalize(rawValue);
-        return Arrays.stream(values())
-                .filter(tipo -> tipo.normalized.equals(normalizedInput))
-                .findFirst()
-                .orElseThrow(() -> new DomainException("Tipo de vivienda no es valido"));
+        final ViviendaTipo exact = rawValue == null ? null : BY_VALUE.get(rawValue);
+        if (exact != null) {
+            return exact;
+        }
+        final ViviendaTipo tipo = BY_NORMALIZED.get(normalize(rawValue));
+        if (tipo == null) {
+            throw new DomainException("Tipo de vivienda no es valido");
+        }
+        return tipo;
     }
 
     private static String normalize(final String value) {
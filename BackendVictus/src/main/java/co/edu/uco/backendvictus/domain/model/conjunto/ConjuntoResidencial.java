@@ -24,26 +24,41 @@ public final class ConjuntoResidencial {
     private ConjuntoResidencial(final UUID id, final String nombre, final String direccion, final Ciudad ciudad,
             final Administrador administrador, final String telefono) {
         this.id = id; //ValidationUtils.validateUUID(id, "Id del conjunto residencial");
-        this.nombre = ValidationUtils.validateRequiredText(nombre, "Nombre del conjunto", 150);
-        this.direccion = ValidationUtils.validateRequiredText(direccion, "Direccion", 180);
+        this.nombre = nombre;
+        this.direccion = direccion;
         this.ciudad = ciudad;
         this.administrador = administrador;
-        this.telefono = ValidationUtils.validateRequiredText(telefono, "Telefono del conjunto", 20);
+        this.telefono = telefono;
+    }
 
-        SpecificationValidator.check(ConjuntoAdministradorActivoSpecification.INSTANCE, this,
+    public static ConjuntoResidencial create(final UUID id, final String nombre, final String direccion,
+            final Ciudad ciudad, final Administrador administrador, final String telefono) {
+        final ConjuntoResidencial conjunto = new ConjuntoResidencial(id,
+                ValidationUtils.validateRequiredText(nombre, "Nombre del conjunto", 150),
+                ValidationUtils.validateRequiredText(direccion, "Direccion", 180),
+                ciudad,
+                administrador,
+                ValidationUtils.validateRequiredText(telefono, "Telefono del conjunto", 20));
+
+        SpecificationValidator.check(ConjuntoAdministradorActivoSpecification.INSTANCE, conjunto,
                 "El conjunto residencial requiere un administrador activo");
-        SpecificationValidator.check(ConjuntoTieneCiudadSpecification.INSTANCE, this,
+        SpecificationValidator.check(ConjuntoTieneCiudadSpecification.INSTANCE, conjunto,
                 "El conjunto residencial debe pertenecer a una ciudad valida");
+        return conjunto;
     }
 
-    public static ConjuntoResidencial create(final UUID id, final String nombre, final String direccion,
+    /**
+     * Rebuilds a persisted residential complex without re-running write-time validation. Only for persistence
+     * adapters: the row was validated when it was written.
+     */
+    public static ConjuntoResidencial rehydrate(final UUID id, final String nombre, final String direccion,
             final Ciudad ciudad, final Administrador administrador, final String telefono) {
         return new ConjuntoResidencial(id, nombre, direccion, ciudad, administrador, telefono);
     }
 
     public ConjuntoResidencial update(final String nombre, final String direccion, final Ciudad ciudad,
             final Administrador administrador, final String telefono) {
-        return new ConjuntoResidencial(this.id, nombre, direccion, ciudad, administrador, telefono);
+        return create(this.id, nombre, direccion, ciudad, administrador, telefono);
     }
 
     public UUID getId() {
@@ -1,5 +1,7 @@
 package co.edu.uco.backendvictus.domain.port;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import co.edu.uco.backendvictus.domain.model.Vivienda;
@@ -12,6 +14,11 @@ public interface ViviendaRepository {
 
     Mono<Vivienda> save(Vivienda vivienda);
 
+    /**
+     * Inserts all viviendas atomically: either every row is stored or none is.
+     */
+    Flux<Vivienda> saveAll(List<Vivienda> viviendas);
+
     Mono<Vivienda> findById(UUID id);
 
     Flux<Vivienda> findByFilters(UUID conjuntoId, ViviendaEstado estado, ViviendaTipo tipo, String numeroLike, int page,
@@ -21,5 +28,7 @@ public interface ViviendaRepository {
 
     Mono<Vivienda> findByConjuntoAndNumero(UUID conjuntoId, String numero);
 
+    Flux<String> findExistingNumeros(UUID conjuntoId, Collection<String> numeros);
+
     Mono<Void> deleteById(UUID id);
 }
@@ -0,0 +1,19 @@
+package co.edu.uco.backendvictus.infrastructure.config.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    private static final String USE_CASE_PACKAGE = "co.edu.uco.backendvictus.application.usecase";
+    private static final String REPOSITORY_PACKAGE = "co.edu.uco.backendvictus.infrastructure.secondary.repository";
+
+    @Bean
+    static ReactiveMetricsPostProcessor reactiveMetricsPostProcessor(final ObjectProvider<MeterRegistry> registry) {
+        return new ReactiveMetricsPostProcessor(registry::getObject, USE_CASE_PACKAGE, REPOSITORY_PACKAGE);
+    }
+}
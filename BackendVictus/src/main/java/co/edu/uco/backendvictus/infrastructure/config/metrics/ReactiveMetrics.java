@@ -0,0 +1,87 @@
+package co.edu.uco.backendvictus.infrastructure.config.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Times reactive pipelines from subscription to termination, which is when the work actually happens; timing the
+ * method call would only measure assembly. Every timer carries {@code outcome} (success, error or cancelled) and
+ * {@code exception} tags so error rates come from the same series as latencies.
+ */
+public final class ReactiveMetrics {
+
+    public static final String OUTCOME = "outcome";
+    public static final String EXCEPTION = "exception";
+
+    private static final String NONE = "none";
+
+    private ReactiveMetrics() {
+    }
+
+    public static <T> Mono<T> time(final Mono<T> source, final MeterRegistry registry, final String name,
+            final Tags tags) {
+        return Mono.defer(() -> {
+            final Recording recording = new Recording(registry, name, tags);
+            return source.doOnSuccess(value -> recording.stop("success", null))
+                    .doOnError(error -> recording.stop("error", error))
+                    .doOnCancel(() -> recording.stop("cancelled", null));
+        });
+    }
+
+    public static <T> Flux<T> time(final Flux<T> source, final MeterRegistry registry, final String name,
+            final Tags tags) {
+        return Flux.defer(() -> {
+            final Recording recording = new Recording(registry, name, tags);
+            return source.doOnComplete(() -> recording.stop("success", null))
+                    .doOnError(error -> recording.stop("error", error))
+                    .doOnCancel(() -> recording.stop("cancelled", null));
+        });
+    }
+
+    /**
+     * Records a call that failed before returning a publisher, so synchronous validation errors are not lost.
+     */
+    public static void recordFailure(final MeterRegistry registry, final String name, final Tags tags,
+            final long startNanos, final Throwable error) {
+        timer(registry, name, tags, "error", error).record(System.nanoTime() - startNanos,
+                TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer timer(final MeterRegistry registry, final String name, final Tags tags,
+            final String outcome, final Throwable error) {
+        return Timer.builder(name)
+                .tags(tags)
+                .tag(OUTCOME, outcome)
+                .tag(EXCEPTION, error == null ? NONE : error.getClass().getSimpleName())
+                .register(registry);
+    }
+
+    // A Mono can signal success and then be cancelled by a downstream operator; only the first signal counts.
+    private static final class Recording {
+
+        private final MeterRegistry registry;
+        private final String name;
+        private final Tags tags;
+        private final Timer.Sample sample;
+        private final AtomicBoolean stopped = new AtomicBoolean();
+
+        private Recording(final MeterRegistry registry, final String name, final Tags tags) {
+            this.registry = registry;
+            this.name = name;
+            this.tags = tags;
+            this.sample = Timer.start(registry);
+        }
+
+        private void stop(final String outcome, final Throwable error) {
+            if (stopped.compareAndSet(false, true)) {
+                sample.stop(timer(registry, name, tags, outcome, error));
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package co.edu.uco.backendvictus.infrastructure.config.metrics;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adds timers to every use case {@code execute*} method ({@code execute}, {@code executePaged},
+ * {@code executeKeyset}, ...) and to every public method of the repository adapters, so each query (the port method
+ * that issues the {@code DatabaseClient} or {@code ReactiveCrudRepository} call) gets its own series without touching
+ * the classes themselves. This is the only timer around adapter calls; adapters do not time their statements again.
+ *
+ * <ul>
+ *   <li>{@value #USE_CASE_TIMER}, tagged {@code usecase} and {@code operation}</li>
+ *   <li>{@value #REPOSITORY_TIMER}, tagged {@code repository} and {@code query}</li>
+ * </ul>
+ */
+public class ReactiveMetricsPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public static final String USE_CASE_TIMER = "usecase.execution";
+    public static final String REPOSITORY_TIMER = "repository.query";
+
+    private static final String USE_CASE_SUFFIX = "UseCase";
+    private static final String ADAPTER_SUFFIX = "RepositoryAdapter";
+    private static final String USE_CASE_METHOD_PREFIX = "execute";
+
+    public ReactiveMetricsPostProcessor(final Supplier<MeterRegistry> registry, final String useCasePackage,
+            final String repositoryPackage) {
+        final MeteredComponents components = new MeteredComponents(useCasePackage, repositoryPackage);
+        this.advisor = new DefaultPointcutAdvisor(components, new TimingInterceptor(registry, components));
+        // Use cases are injected by class and adapters may already be transactional proxies.
+        setProxyTargetClass(true);
+        setBeforeExistingAdvisors(true);
+    }
+
+    private record Meter(String name, Tags tags) {
+    }
+
+    private static final class MeteredComponents extends StaticMethodMatcherPointcut {
+
+        private final String useCasePackage;
+        private final String repositoryPackage;
+
+        private MeteredComponents(final String useCasePackage, final String repositoryPackage) {
+            this.useCasePackage = useCasePackage;
+            this.repositoryPackage = repositoryPackage;
+            setClassFilter(type -> isUseCase(type) || isRepositoryAdapter(type));
+        }
+
+        @Override
+        public boolean matches(final Method method, final Class<?> targetClass) {
+            if (!Modifier.isPublic(method.getModifiers()) || method.getDeclaringClass() == Object.class
+                    || !isPublisher(method.getReturnType())) {
+                return false;
+            }
+            if (isUseCase(targetClass)) {
+                return method.getName().startsWith(USE_CASE_METHOD_PREFIX);
+            }
+            return isRepositoryAdapter(targetClass);
+        }
+
+        private Meter meterFor(final Method method, final Class<?> targetClass) {
+            final String type = ClassUtils.getUserClass(targetClass).getSimpleName();
+            if (isUseCase(targetClass)) {
+                return new Meter(USE_CASE_TIMER, Tags.of("usecase", type, "operation", method.getName()));
+            }
+            return new Meter(REPOSITORY_TIMER, Tags.of("repository",
+                    type.substring(0, type.length() - "Adapter".length()), "query", method.getName()));
+        }
+
+        private boolean isUseCase(final Class<?> type) {
+            final Class<?> userClass = ClassUtils.getUserClass(type);
+            return userClass.getPackageName().startsWith(useCasePackage)
+                    && userClass.getSimpleName().endsWith(USE_CASE_SUFFIX);
+        }
+
+        private boolean isRepositoryAdapter(final Class<?> type) {
+            final Class<?> userClass = ClassUtils.getUserClass(type);
+            return userClass.getPackageName().startsWith(repositoryPackage)
+                    && userClass.getSimpleName().endsWith(ADAPTER_SUFFIX);
+        }
+
+        private static boolean isPublisher(final Class<?> type) {
+            return Mono.class.isAssignableFrom(type) || Flux.class.isAssignableFrom(type);
+        }
+    }
+
+    private static final class TimingInterceptor implements MethodInterceptor {
+
+        private final Supplier<MeterRegistry> registrySupplier;
+        private final MeteredComponents components;
+        private final Map<Method, Meter> meters = new ConcurrentHashMap<>();
+        private volatile MeterRegistry registry;
+
+        private TimingInterceptor(final Supplier<MeterRegistry> registrySupplier,
+                final MeteredComponents components) {
+            this.registrySupplier = registrySupplier;
+            this.components = components;
+        }
+
+        @Override
+        public Object invoke(final MethodInvocation invocation) throws Throwable {
+            final Method method = invocation.getMethod();
+            final Meter meter = meters.computeIfAbsent(method,
+                    key -> components.meterFor(key, AopUtils.getTargetClass(invocation.getThis())));
+            final MeterRegistry meterRegistry = registry();
+            final long start = System.nanoTime();
+            final Object result;
+            try {
+                result = invocation.proceed();
+            } catch (final Throwable error) {
+                ReactiveMetrics.recordFailure(meterRegistry, meter.name(), meter.tags(), start, error);
+                throw error;
+            }
+            if (result instanceof Mono<?> mono) {
+                return ReactiveMetrics.time(mono, meterRegistry, meter.name(), meter.tags());
+            }
+            if (result instanceof Flux<?> flux) {
+                return ReactiveMetrics.time(flux, meterRegistry, meter.name(), meter.tags());
+            }
+            return result;
+        }
+
+        // Resolved on first use: post-processors are created before the registry bean exists.
+        private MeterRegistry registry() {
+            MeterRegistry current = registry;
+            if (current == null) {
+                current = registrySupplier.get();
+                registry = current;
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package co.edu.uco.backendvictus.infrastructure.config.r2dbc;
+
+import org.reactivestreams.Publisher;
+
+import co.edu.uco.backendvictus.infrastructure.config.metrics.ReactiveMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.Disposable;
+
+/**
+ * Times every connection acquisition from the pool as {@value #ACQUIRE_TIMER}: the wait in the pending queue plus
+ * validation. Acquires that exceed {@code max-acquire-time} are recorded with {@code outcome=error}. It unwraps to
+ * the {@link ConnectionPool}, so the actuator keeps binding the {@code r2dbc.pool.*} gauges (acquired, pending,
+ * idle, allocated) to it.
+ */
+public class MeteredConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>, Disposable {
+
+    public static final String ACQUIRE_TIMER = "r2dbc.pool.acquire";
+
+    private final ConnectionPool pool;
+    private final MeterRegistry registry;
+    private final Tags tags;
+
+    public MeteredConnectionFactory(final ConnectionPool pool, final String name, final MeterRegistry registry) {
+        this.pool = pool;
+        this.registry = registry;
+        this.tags = Tags.of("name", name);
+    }
+
+    @Override
+    public Publisher<? extends Connection> create() {
+        return ReactiveMetrics.time(pool.create(), registry, ACQUIRE_TIMER, tags);
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return pool.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return pool;
+    }
+
+    @Override
+    public void dispose() {
+        pool.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return pool.isDisposed();
+    }
+}
@@ -0,0 +1,74 @@
+package co.edu.uco.backendvictus.infrastructure.config.r2dbc;
+
+import static io.r2dbc.spi.ConnectionFactoryOptions.DRIVER;
+import static io.r2dbc.spi.ConnectionFactoryOptions.PASSWORD;
+import static io.r2dbc.spi.ConnectionFactoryOptions.USER;
+
+import org.slf4j.Logger;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import co.edu.uco.backendvictus.crosscutting.helpers.LoggerHelper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Option;
+
+/**
+ * Builds the application {@link ConnectionFactory}: the PostgreSQL driver from {@code spring.r2dbc.url},
+ * {@code username}, {@code password} and {@code properties}, pooled with the {@link R2dbcPoolProperties} and wrapped
+ * in a {@link MeteredConnectionFactory}. Replaces the auto-configured pool, which exposes neither background
+ * eviction nor the driver statement cache.
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableConfigurationProperties(R2dbcPoolProperties.class)
+public class R2dbcPoolConfig {
+
+    static final String POOL_NAME = "connectionFactory";
+
+    private static final Logger LOGGER = LoggerHelper.getLogger(R2dbcPoolConfig.class);
+    private static final Option<Integer> STATEMENT_CACHE = Option.valueOf("preparedStatementCacheQueries");
+
+    @Bean(destroyMethod = "dispose")
+    public MeteredConnectionFactory connectionFactory(final R2dbcProperties r2dbc, final R2dbcPoolProperties pool,
+            final MeterRegistry registry) {
+        final ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(r2dbc.getUrl()).mutate();
+        if (StringUtils.hasText(r2dbc.getUsername())) {
+            options.option(USER, r2dbc.getUsername());
+        }
+        if (StringUtils.hasText(r2dbc.getPassword())) {
+            options.option(PASSWORD, r2dbc.getPassword());
+        }
+        r2dbc.getProperties().forEach((key, value) -> options.option(Option.valueOf(key), value));
+        options.option(STATEMENT_CACHE, pool.statementCacheSize());
+
+        final ConnectionFactoryOptions target = options.build();
+        if ("pool".equals(target.getValue(DRIVER))) {
+            throw new IllegalStateException("El pool se configura con r2dbc.pool.*; use una URL r2dbc:postgresql://");
+        }
+        LOGGER.info("Inicializando pool R2DBC (initialSize={}, maxSize={}, maxAcquireTime={}, statementCache={})",
+                pool.initialSize(), pool.maxSize(), pool.maxAcquireTime(), pool.statementCacheSize());
+        return new MeteredConnectionFactory(createPool(ConnectionFactories.get(target), pool), POOL_NAME, registry);
+    }
+
+    static ConnectionPool createPool(final ConnectionFactory target, final R2dbcPoolProperties pool) {
+        final ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder(target)
+                .name(POOL_NAME)
+                .initialSize(pool.initialSize())
+                .maxSize(pool.maxSize())
+                .maxAcquireTime(pool.maxAcquireTime())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .backgroundEvictionInterval(pool.backgroundEvictionInterval());
+        if (StringUtils.hasText(pool.validationQuery())) {
+            builder.validationQuery(pool.validationQuery());
+        }
+        return new ConnectionPool(builder.build());
+    }
+}
@@ -0,0 +1,31 @@
+package co.edu.uco.backendvictus.infrastructure.config.r2dbc;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Connection pool settings under {@code r2dbc.pool.*}.
+ *
+ * @param initialSize connections opened when the pool warms up
+ * @param maxSize upper bound of open connections; further acquires wait in the pending queue
+ * @param maxAcquireTime how long an acquire may wait for a free connection before failing
+ * @param maxIdleTime idle connections older than this are closed by the background eviction
+ * @param maxLifeTime connections older than this are closed when released or found idle; a connection in use is
+ *        never closed under its caller
+ * @param backgroundEvictionInterval how often idle and expired connections are evicted
+ * @param validationQuery query run before handing out a connection; blank validates locally only
+ * @param statementCacheSize prepared statements cached per connection by the PostgreSQL driver
+ */
+@ConfigurationProperties("r2dbc.pool")
+public record R2dbcPoolProperties(
+        @DefaultValue("5") int initialSize,
+        @DefaultValue("20") int maxSize,
+        @DefaultValue("3s") Duration maxAcquireTime,
+        @DefaultValue("10m") Duration maxIdleTime,
+        @DefaultValue("30m") Duration maxLifeTime,
+        @DefaultValue("1m") Duration backgroundEvictionInterval,
+        @DefaultValue("SELECT 1") String validationQuery,
+        @DefaultValue("256") int statementCacheSize) {
+}
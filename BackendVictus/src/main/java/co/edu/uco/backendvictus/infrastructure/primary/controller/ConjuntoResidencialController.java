@@ -81,20 +81,32 @@ public class ConjuntoResidencialController {
             @RequestParam(name = "ciudadId", required = false) final UUID ciudadId,
             @RequestParam(name = "nombre", required = false) final String nombre,
             @RequestParam(name = "page", defaultValue = "0") final int page,
-            @RequestParam(name = "size", defaultValue = "20") final int size) {
+            @RequestParam(name = "size", defaultValue = "20") final int size,
+            @RequestParam(name = "cursor", required = false) final String cursor) {
         final String sanitizedNombre = DataSanitizer.sanitizeText(nombre);
         final boolean hasFilters = departamentoId != null || ciudadId != null
                 || (sanitizedNombre != null && !sanitizedNombre.isBlank());
 
         if (hasFilters) {
-            Flux<ConjuntoResponse> filtered = listConjuntosUseCase
-                    .executeFiltered(departamentoId, ciudadId, sanitizedNombre);
-            return listConjuntosUseCase.buildFilteredPage(filtered, page, size);
+            return listConjuntosUseCase.executeFiltered(departamentoId, ciudadId, sanitizedNombre, page, size);
+        }
+
+        // Any cursor value (even empty, for the first page) switches the unfiltered listing to keyset mode.
+        if (cursor != null) {
+            return listConjuntosUseCase.executeKeyset(cursor, size);
         }
 
         return listConjuntosUseCase.executePaged(page, size);
     }
 
+    @GetMapping("/search")
+    public Mono<PageResponse<ConjuntoResponse>> buscar(
+            @RequestParam(name = "q") final String q,
+            @RequestParam(name = "page", defaultValue = "0") final int page,
+            @RequestParam(name = "size", defaultValue = "20") final int size) {
+        return listConjuntosUseCase.executeSearch(DataSanitizer.sanitizeText(q), page, size);
+    }
+
     @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public ResponseEntity<Flux<ServerSentEvent<ConjuntoEvento>>> streamEventos() {
         HttpHeaders headers = new HttpHeaders();
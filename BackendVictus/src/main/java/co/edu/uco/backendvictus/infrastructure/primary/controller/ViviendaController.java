@@ -3,6 +3,7 @@ package co.edu.uco.backendvictus.infrastructure.primary.controller;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import co.edu.uco.backendvictus.application.dto.vivienda.ViviendaBulkResponse;
 import co.edu.uco.backendvictus.application.dto.vivienda.ViviendaChangeEstadoRequest;
 import co.edu.uco.backendvictus.application.dto.vivienda.ViviendaCreateRequest;
 import co.edu.uco.backendvictus.application.dto.vivienda.ViviendaFilterRequest;
@@ -24,11 +26,13 @@ import co.edu.uco.backendvictus.application.dto.vivienda.ViviendaUpdateRequest;
 import co.edu.uco.backendvictus.application.usecase.vivienda.ChangeViviendaEstadoUseCase;
 import co.edu.uco.backendvictus.application.usecase.vivienda.CreateViviendaUseCase;
 import co.edu.uco.backendvictus.application.usecase.vivienda.DeleteViviendaUseCase;
+import co.edu.uco.backendvictus.application.usecase.vivienda.ImportViviendasUseCase;
 import co.edu.uco.backendvictus.application.usecase.vivienda.ListViviendaUseCase;
 import co.edu.uco.backendvictus.application.usecase.vivienda.UpdateViviendaUseCase;
 import co.edu.uco.backendvictus.crosscutting.helpers.DataSanitizer;
 import co.edu.uco.backendvictus.infrastructure.primary.response.ApiSuccessResponse;
 import co.edu.uco.backendvictus.infrastructure.primary.response.ApiResponseHelper; // ✅ import helper
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @RestController
@@ -40,17 +44,20 @@ public class ViviendaController {
     private final UpdateViviendaUseCase updateViviendaUseCase;
     private final ChangeViviendaEstadoUseCase changeViviendaEstadoUseCase;
     private final DeleteViviendaUseCase deleteViviendaUseCase;
+    private final ImportViviendasUseCase importViviendasUseCase;
 
     public ViviendaController(final CreateViviendaUseCase createViviendaUseCase,
                               final ListViviendaUseCase listViviendaUseCase,
                               final UpdateViviendaUseCase updateViviendaUseCase,
                               final ChangeViviendaEstadoUseCase changeViviendaEstadoUseCase,
-                              final DeleteViviendaUseCase deleteViviendaUseCase) {
+                              final DeleteViviendaUseCase deleteViviendaUseCase,
+                              final ImportViviendasUseCase importViviendasUseCase) {
         this.createViviendaUseCase = createViviendaUseCase;
         this.listViviendaUseCase = listViviendaUseCase;
         this.updateViviendaUseCase = updateViviendaUseCase;
         this.changeViviendaEstadoUseCase = changeViviendaEstadoUseCase;
         this.deleteViviendaUseCase = deleteViviendaUseCase;
+        this.importViviendasUseCase = importViviendasUseCase;
     }
 
     @PostMapping
@@ -67,6 +74,26 @@ public class ViviendaController {
                 .map(body -> ResponseEntity.status(HttpStatus.CREATED).body(body));
     }
 
+    /**
+     * Accepts a JSON array or an NDJSON stream of viviendas and answers with one result per row. Reading stops one
+     * row past {@link ImportViviendasUseCase#MAX_ROWS}, so an oversized body is rejected without buffering it whole.
+     */
+    @PostMapping(path = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Mono<ResponseEntity<ApiSuccessResponse<ViviendaBulkResponse>>> importar(
+            @RequestBody final Flux<ViviendaCreateRequest> requests) {
+        return requests
+                .take(ImportViviendasUseCase.MAX_ROWS + 1L)
+                .map(request -> new ViviendaCreateRequest(
+                        request.conjuntoId(),
+                        DataSanitizer.sanitizeText(request.numero()),
+                        cleanText(request.tipo()),
+                        cleanText(request.estado())))
+                .collectList()
+                .flatMap(importViviendasUseCase::execute)
+                .map(ApiSuccessResponse::of)
+                .map(ResponseEntity::ok);
+    }
+
     @GetMapping
     public Mono<ResponseEntity<ApiSuccessResponse<ViviendaPageResponse>>> listar(
             @RequestParam(name = "conjuntoId", required = false) final UUID conjuntoId,
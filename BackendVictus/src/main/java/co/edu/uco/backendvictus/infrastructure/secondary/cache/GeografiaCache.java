@@ -0,0 +1,114 @@
+package co.edu.uco.backendvictus.infrastructure.secondary.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import co.edu.uco.backendvictus.application.port.out.geografia.GeografiaCachePort;
+import co.edu.uco.backendvictus.crosscutting.helpers.LoggerHelper;
+import co.edu.uco.backendvictus.domain.model.Ciudad;
+import co.edu.uco.backendvictus.domain.model.Departamento;
+import co.edu.uco.backendvictus.domain.model.Pais;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bounded, TTL-based caches for paises, departamentos and ciudades. Hit/miss/eviction statistics are published as
+ * {@code cache.*} meters tagged with {@code cache=geografia.<tipo>}.
+ */
+@Component
+public class GeografiaCache implements GeografiaCachePort {
+
+    private static final Logger LOGGER = LoggerHelper.getLogger(GeografiaCache.class);
+
+    private final Cache<UUID, Pais> paises;
+    private final Cache<UUID, Departamento> departamentos;
+    private final Cache<UUID, Ciudad> ciudades;
+
+    public GeografiaCache(@Value("${cache.geografia.max-size:10000}") final long maxSize,
+            @Value("${cache.geografia.ttl:PT30M}") final Duration ttl, final MeterRegistry registry) {
+        LOGGER.info("Inicializando caché de geografía (maxSize={}, ttl={})", maxSize, ttl);
+        this.paises = build(maxSize, ttl, registry, "geografia.pais");
+        this.departamentos = build(maxSize, ttl, registry, "geografia.departamento");
+        this.ciudades = build(maxSize, ttl, registry, "geografia.ciudad");
+    }
+
+    public Mono<Pais> pais(final UUID id, final Function<UUID, Mono<Pais>> loader) {
+        return readThrough(paises, id, loader);
+    }
+
+    public Mono<Departamento> departamento(final UUID id, final Function<UUID, Mono<Departamento>> loader) {
+        return readThrough(departamentos, id, loader);
+    }
+
+    public Mono<Ciudad> ciudad(final UUID id, final Function<UUID, Mono<Ciudad>> loader) {
+        return readThrough(ciudades, id, loader);
+    }
+
+    public void put(final Pais pais) {
+        paises.put(pais.getId(), pais);
+    }
+
+    public void put(final Departamento departamento) {
+        departamentos.put(departamento.getId(), departamento);
+    }
+
+    public void put(final Ciudad ciudad) {
+        ciudades.put(ciudad.getId(), ciudad);
+    }
+
+    @Override
+    public Mono<Void> evictPais(final UUID paisId) {
+        return Mono.fromRunnable(() -> {
+            paises.invalidate(paisId);
+            departamentos.invalidateAll();
+            ciudades.invalidateAll();
+        });
+    }
+
+    @Override
+    public Mono<Void> evictDepartamento(final UUID departamentoId) {
+        return Mono.fromRunnable(() -> {
+            departamentos.invalidate(departamentoId);
+            ciudades.invalidateAll();
+        });
+    }
+
+    @Override
+    public Mono<Void> evictCiudad(final UUID ciudadId) {
+        return Mono.fromRunnable(() -> ciudades.invalidate(ciudadId));
+    }
+
+    private static <T> Mono<T> readThrough(final Cache<UUID, T> cache, final UUID id,
+            final Function<UUID, Mono<T>> loader) {
+        if (id == null) {
+            return loader.apply(null);
+        }
+        return Mono.defer(() -> {
+            final T cached = cache.getIfPresent(id);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return loader.apply(id).doOnNext(value -> cache.put(id, value));
+        });
+    }
+
+    private static <T> Cache<UUID, T> build(final long maxSize, final Duration ttl, final MeterRegistry registry,
+            final String name) {
+        final Cache<UUID, T> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+        return cache;
+    }
+}
@@ -4,6 +4,7 @@ import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import co.edu.uco.backendvictus.crosscutting.helpers.LoggerHelper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -36,14 +37,16 @@ public class ExternalClientsConfig {
         return buildWebClient(baseUrl);
     }
 
-    @Bean
-    public MessageClient messageClient(@Qualifier("messageWebClient") final WebClient messageWebClient) {
-        return new MessageClient(messageWebClient);
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public MessageClient messageClient(@Qualifier("messageWebClient") final WebClient messageWebClient,
+            @Value("${services.message.base-url}") final String baseUrl, final MeterRegistry registry) {
+        return new MessageClient(messageWebClient, buildStreamingWebClient(baseUrl), registry);
     }
 
-    @Bean
-    public ParameterClient parameterClient(@Qualifier("parameterWebClient") final WebClient parameterWebClient) {
-        return new ParameterClient(parameterWebClient);
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ParameterClient parameterClient(@Qualifier("parameterWebClient") final WebClient parameterWebClient,
+            @Value("${services.parameter.base-url}") final String baseUrl, final MeterRegistry registry) {
+        return new ParameterClient(parameterWebClient, buildStreamingWebClient(baseUrl), registry);
     }
 
     private WebClient buildWebClient(final String baseUrl) {
@@ -63,6 +66,17 @@ public class ExternalClientsConfig {
                 .build();
     }
 
+    // Long-lived SSE connections: keep the connect timeout but no read/response timeouts, which would cut idle streams.
+    private WebClient buildStreamingWebClient(final String baseUrl) {
+        final HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 2000);
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
     private ExchangeFilterFunction logRequest() {
         return ExchangeFilterFunction.ofRequestProcessor(clientRequest -> {
             LOGGER.info("WebClient → {} {}", clientRequest.method(), clientRequest.url());
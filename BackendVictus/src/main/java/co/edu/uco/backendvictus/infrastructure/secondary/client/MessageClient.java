@@ -1,19 +1,61 @@
 package co.edu.uco.backendvictus.infrastructure.secondary.client;
 
 import co.edu.uco.backendvictus.crosscutting.helpers.LoggerHelper;
+import co.edu.uco.backendvictus.infrastructure.config.metrics.ReactiveMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import org.slf4j.Logger;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MessageClient {
 
     private static final Logger LOGGER = LoggerHelper.getLogger(MessageClient.class);
 
+    private static final String REQUESTS_TIMER = "message.client.requests";
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+    private static final String RESYNC_EVENT = "RESYNC";
+
+    private static final ParameterizedTypeReference<ServerSentEvent<RemoteMessageResponse>> EVENT_TYPE =
+            new ParameterizedTypeReference<>() { };
+    private static final ParameterizedTypeReference<Map<String, RemoteMessageResponse>> BATCH_TYPE =
+            new ParameterizedTypeReference<>() { };
+
     private final WebClient webClient;
+    private final WebClient streamClient;
+    private final MeterRegistry registry;
+
+    // Copia local del catálogo: se precarga al arrancar y se mantiene al día con el /stream de message-service.
+    private final Map<String, MessageResult> cache = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter staleServed;
+    private volatile boolean streamConnected;
+    private volatile Disposable subscription;
+    // Último id SSE aplicado; al reconectar se envía como Last-Event-ID para recibir sólo lo perdido.
+    private volatile String lastEventId;
 
     public record MessageResult(String technicalMessage, String clientMessage, String source) {}
 
@@ -21,15 +63,36 @@ public class MessageClient {
     private record RemoteMessageResponse(String key, String value, String technicalMessage, String clientMessage) {}
 
     public MessageClient(final WebClient webClient) {
+        this(webClient, webClient, Metrics.globalRegistry);
+    }
+
+    public MessageClient(final WebClient webClient, final WebClient streamClient, final MeterRegistry registry) {
         this.webClient = webClient;
+        this.streamClient = streamClient;
+        this.registry = registry;
+        this.hits = Counter.builder("message.client.cache").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("message.client.cache").tag("result", "miss").register(registry);
+        this.staleServed = Counter.builder("message.client.cache.stale").register(registry);
+        Gauge.builder("message.client.cache.size", cache, Map::size).register(registry);
     }
 
     public Mono<MessageResult> getMessage(final String key) {
+        final MessageResult cached = cache.get(key);
+        if (cached != null) {
+            hits.increment();
+            if (!streamConnected) {
+                staleServed.increment();
+            }
+            return Mono.just(cached);
+        }
+        misses.increment();
         LOGGER.info("MessageClient → consultando mensaje con key='{}'", key);
         return webClient.get()
                 .uri(uriBuilder -> uriBuilder.path("/{key}").build(key))
                 .exchangeToMono(response -> handleResponse(key, response.statusCode(), response))
                 .timeout(Duration.ofSeconds(3))
+                .transform(call -> timed(call, "get"))
+                .doOnNext(result -> cacheIfRemote(key, result))
                 .onErrorResume(throwable -> {
                     LOGGER.warn("MessageClient → error consultando '{}' ({}). Respuesta vacía.", key,
                             throwable.getClass().getSimpleName());
@@ -37,6 +100,160 @@ public class MessageClient {
                 });
     }
 
+    /**
+     * Resolves several keys at once: cached entries are served locally and the rest are fetched with a single
+     * {@code POST :batchGet}. Keys the service does not know are left out of the result.
+     */
+    public Mono<Map<String, MessageResult>> getMessages(final Collection<String> keys) {
+        final Map<String, MessageResult> found = new HashMap<>();
+        final List<String> missing = new ArrayList<>();
+        for (final String key : new LinkedHashSet<>(keys)) {
+            final MessageResult cached = cache.get(key);
+            if (cached != null) {
+                hits.increment();
+                if (!streamConnected) {
+                    staleServed.increment();
+                }
+                found.put(key, cached);
+            } else {
+                misses.increment();
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return Mono.just(found);
+        }
+        LOGGER.info("MessageClient → consultando {} mensajes en lote", missing.size());
+        return webClient.post()
+                .uri(uriBuilder -> uriBuilder.path(":batchGet").build())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("keys", missing))
+                .retrieve()
+                .bodyToMono(BATCH_TYPE)
+                .timeout(Duration.ofSeconds(3))
+                .transform(call -> timed(call, "batchGet"))
+                .map(remote -> {
+                    remote.forEach((key, payload) -> {
+                        final MessageResult result = mapToResultOrDefault(key, payload);
+                        if (result != null) {
+                            cacheIfRemote(key, result);
+                            found.put(key, result);
+                        }
+                    });
+                    return found;
+                })
+                .defaultIfEmpty(found)
+                .onErrorResume(throwable -> {
+                    LOGGER.warn("MessageClient → error en consulta por lote ({}). Se devuelven {} mensajes en caché.",
+                            throwable.getClass().getSimpleName(), found.size());
+                    return Mono.just(found);
+                });
+    }
+
+    /**
+     * Loads the full catalog and subscribes to the change stream. Reconnections resume from the last applied event
+     * ({@code Last-Event-ID}), so only the changes missed while disconnected are transferred; the catalog is reloaded
+     * on the first connection or when the service answers with a {@code RESYNC} event. Meanwhile the last known
+     * entries keep being served.
+     */
+    public void start() {
+        subscription = Flux.defer(() -> lastEventId == null ? warmUp().thenMany(changeStream()) : changeStream())
+                .doOnSubscribe(s -> LOGGER.info("MessageClient → sincronizando caché con message-service"))
+                .doOnTerminate(() -> streamConnected = false)
+                .repeatWhen(completed -> completed.delayElements(Duration.ofSeconds(1)))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> LOGGER.warn("MessageClient → stream no disponible ({}). "
+                                + "Reintentando; se sirven {} mensajes en caché.",
+                                signal.failure().getClass().getSimpleName(), cache.size())))
+                .subscribe();
+    }
+
+    public void stop() {
+        final Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    private Mono<Void> warmUp() {
+        return webClient.get()
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<RemoteMessageResponse>>() { })
+                .timeout(Duration.ofSeconds(3))
+                .transform(call -> timed(call, "list"))
+                .doOnNext(messages -> {
+                    final Set<String> keys = new HashSet<>();
+                    messages.forEach(message -> {
+                        upsert(message);
+                        keys.add(message.key());
+                    });
+                    cache.keySet().retainAll(keys);
+                    LOGGER.info("MessageClient → caché precargada con {} mensajes", messages.size());
+                })
+                .then();
+    }
+
+    // Remote calls only: cache hits are already counted by the cache counters.
+    private <T> Mono<T> timed(final Mono<T> call, final String operation) {
+        return ReactiveMetrics.time(call, registry, REQUESTS_TIMER, Tags.of("operation", operation));
+    }
+
+    private Flux<ServerSentEvent<RemoteMessageResponse>> changeStream() {
+        final String resumeFrom = lastEventId;
+        return streamClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/stream").build())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(headers -> {
+                    if (resumeFrom != null) {
+                        headers.set(LAST_EVENT_ID, resumeFrom);
+                    }
+                })
+                .retrieve()
+                .bodyToFlux(EVENT_TYPE)
+                .doOnSubscribe(s -> streamConnected = true)
+                .concatMap(event -> process(event)
+                        .doOnSuccess(ignored -> {
+                            if (event.id() != null) {
+                                lastEventId = event.id();
+                            }
+                        })
+                        .thenReturn(event));
+    }
+
+    private Mono<Void> process(final ServerSentEvent<RemoteMessageResponse> event) {
+        if (RESYNC_EVENT.equals(event.event())) {
+            LOGGER.warn("MessageClient → message-service ya no tiene los cambios perdidos; recargando catálogo");
+            return warmUp();
+        }
+        return Mono.fromRunnable(() -> applyEvent(event));
+    }
+
+    private void applyEvent(final ServerSentEvent<RemoteMessageResponse> event) {
+        final RemoteMessageResponse payload = event.data();
+        if (payload == null || payload.key() == null) {
+            return;
+        }
+        if (event.event() != null && event.event().toUpperCase().contains("DELETE")) {
+            cache.remove(payload.key());
+            return;
+        }
+        upsert(payload);
+    }
+
+    private void upsert(final RemoteMessageResponse payload) {
+        if (payload == null || payload.key() == null) {
+            return;
+        }
+        cacheIfRemote(payload.key(), mapToResultOrDefault(payload.key(), payload));
+    }
+
+    private void cacheIfRemote(final String key, final MessageResult result) {
+        if (result != null && "message-service".equals(result.source())) {
+            cache.put(key, result);
+        }
+    }
+
     private MessageResult mapToResultOrDefault(final String key, final RemoteMessageResponse resp) {
         if (resp == null) {
             return null;
@@ -47,7 +264,7 @@ public class MessageClient {
                 : (nonBlank(resp.value()) ? resp.value() : missingKeyClient());
         final String source = (nonBlank(resp.technicalMessage()) || nonBlank(resp.clientMessage()) || nonBlank(resp.value()))
                 ? "message-service" : "backend-fallback";
-        LOGGER.info("MessageClient → respuesta desde {} (key='{}')", source, key);
+        LOGGER.debug("MessageClient → respuesta desde {} (key='{}')", source, key);
         return new MessageResult(technical, client, source);
     }
 
@@ -83,6 +300,16 @@ public class MessageClient {
             public Mono<MessageResult> getMessage(final String key) {
                 return Mono.empty();
             }
+
+            @Override
+            public Mono<Map<String, MessageResult>> getMessages(final Collection<String> keys) {
+                return Mono.just(Map.of());
+            }
+
+            @Override
+            public void start() {
+                // Sin servicio remoto que sincronizar.
+            }
         };
     }
 }
@@ -1,33 +1,119 @@
 package co.edu.uco.backendvictus.infrastructure.secondary.client;
 
 import co.edu.uco.backendvictus.crosscutting.helpers.LoggerHelper;
+import co.edu.uco.backendvictus.infrastructure.config.metrics.ReactiveMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import org.slf4j.Logger;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ParameterClient {
 
     private static final Logger LOGGER = LoggerHelper.getLogger(ParameterClient.class);
 
+    private static final String REQUESTS_TIMER = "parameter.client.requests";
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+    private static final String RESYNC_EVENT = "RESYNC";
+
+    private static final ParameterizedTypeReference<ServerSentEvent<RemoteParameterResponse>> EVENT_TYPE =
+            new ParameterizedTypeReference<>() { };
+    private static final ParameterizedTypeReference<Map<String, RemoteParameterResponse>> BATCH_TYPE =
+            new ParameterizedTypeReference<>() { };
+
     private final WebClient webClient;
+    private final WebClient streamClient;
+    private final MeterRegistry registry;
+
+    // Snapshot local de parámetros: se carga completo al arrancar y se actualiza con el /stream de parameters-service.
+    private final Map<String, CachedParameter> snapshot = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private volatile Disposable subscription;
+    // Último id SSE aplicado; al reconectar se envía como Last-Event-ID para recibir sólo lo perdido.
+    private volatile String lastEventId;
 
     public record ParameterResult(String key, String value, String source) {}
 
     private record RemoteParameterResponse(String key, String value) {}
 
+    // Valor crudo más sus conversiones tipadas, calculadas una sola vez al recibir el cambio.
+    private record CachedParameter(ParameterResult result, Integer asInt, Long asLong, Duration asDuration) {
+
+        static CachedParameter of(final ParameterResult result) {
+            final Long asLong = parseLong(result.value());
+            final Integer asInt = asLong != null && asLong >= Integer.MIN_VALUE && asLong <= Integer.MAX_VALUE
+                    ? asLong.intValue() : null;
+            return new CachedParameter(result, asInt, asLong, parseDuration(result.value()));
+        }
+
+        private static Long parseLong(final String value) {
+            try {
+                return value == null ? null : Long.valueOf(value.trim());
+            } catch (final NumberFormatException exception) {
+                return null;
+            }
+        }
+
+        private static Duration parseDuration(final String value) {
+            try {
+                return value == null || value.isBlank() ? null : DurationStyle.detectAndParse(value.trim());
+            } catch (final IllegalArgumentException exception) {
+                return null;
+            }
+        }
+    }
+
     public ParameterClient(final WebClient webClient) {
+        this(webClient, webClient, Metrics.globalRegistry);
+    }
+
+    public ParameterClient(final WebClient webClient, final WebClient streamClient, final MeterRegistry registry) {
         this.webClient = webClient;
+        this.streamClient = streamClient;
+        this.registry = registry;
+        this.hits = Counter.builder("parameter.client.cache").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("parameter.client.cache").tag("result", "miss").register(registry);
+        Gauge.builder("parameter.client.cache.size", snapshot, Map::size).register(registry);
     }
 
     public Mono<ParameterResult> get(final String key) {
+        final CachedParameter cached = snapshot.get(key);
+        if (cached != null) {
+            hits.increment();
+            return Mono.just(cached.result());
+        }
+        misses.increment();
         LOGGER.info("ParameterClient → consultando parámetro '{}'", key);
         return webClient.get()
                 .uri(uriBuilder -> uriBuilder.path("/{key}").build(key))
                 .exchangeToMono(response -> handleResponse(key, response.statusCode(), response))
                 .timeout(Duration.ofSeconds(3))
+                .transform(call -> timed(call, "get"))
+                .doOnNext(result -> snapshot.put(key, CachedParameter.of(result)))
                 .onErrorResume(ex -> {
                     LOGGER.warn("ParameterClient → error consultando '{}' ({}). Respuesta vacía.", key,
                             ex.getClass().getSimpleName());
@@ -35,8 +121,179 @@ public class ParameterClient {
                 });
     }
 
+    /**
+     * Resolves several keys at once: snapshot entries are served locally and the rest are fetched with a single
+     * {@code POST :batchGet}. Unknown keys are left out of the result.
+     */
+    public Mono<Map<String, ParameterResult>> getAll(final Collection<String> keys) {
+        final Map<String, ParameterResult> found = new HashMap<>();
+        final List<String> missing = new ArrayList<>();
+        for (final String key : new LinkedHashSet<>(keys)) {
+            final CachedParameter cached = lookup(key);
+            if (cached != null) {
+                found.put(key, cached.result());
+            } else {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return Mono.just(found);
+        }
+        LOGGER.info("ParameterClient → consultando {} parámetros en lote", missing.size());
+        return webClient.post()
+                .uri(uriBuilder -> uriBuilder.path(":batchGet").build())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("keys", missing))
+                .retrieve()
+                .bodyToMono(BATCH_TYPE)
+                .timeout(Duration.ofSeconds(3))
+                .transform(call -> timed(call, "batchGet"))
+                .map(remote -> {
+                    remote.forEach((key, payload) -> {
+                        final ParameterResult result = new ParameterResult(key,
+                                payload != null ? payload.value() : null, "parameter-service");
+                        snapshot.put(key, CachedParameter.of(result));
+                        found.put(key, result);
+                    });
+                    return found;
+                })
+                .defaultIfEmpty(found)
+                .onErrorResume(ex -> {
+                    LOGGER.warn("ParameterClient → error en consulta por lote ({}). Se devuelven {} parámetros en caché.",
+                            ex.getClass().getSimpleName(), found.size());
+                    return Mono.just(found);
+                });
+    }
+
+    /**
+     * Reads an integer parameter from the local snapshot without any I/O.
+     */
+    public int getInt(final String key, final int defaultValue) {
+        final CachedParameter cached = lookup(key);
+        return cached != null && cached.asInt() != null ? cached.asInt() : defaultValue;
+    }
+
+    public long getLong(final String key, final long defaultValue) {
+        final CachedParameter cached = lookup(key);
+        return cached != null && cached.asLong() != null ? cached.asLong() : defaultValue;
+    }
+
+    /**
+     * Accepts ISO-8601 ({@code PT5S}) or simple ({@code 500ms}, {@code 5s}) notation; plain numbers are milliseconds.
+     */
+    public Duration getDuration(final String key, final Duration defaultValue) {
+        final CachedParameter cached = lookup(key);
+        return cached != null && cached.asDuration() != null ? cached.asDuration() : defaultValue;
+    }
+
+    /**
+     * Loads every parameter and subscribes to the change stream. Reconnections resume from the last applied event
+     * ({@code Last-Event-ID}); the full snapshot is only reloaded on the first connection or when the service answers
+     * with a {@code RESYNC} event.
+     */
+    public void start() {
+        subscription = Flux.defer(() -> lastEventId == null ? loadAll().thenMany(changeStream()) : changeStream())
+                .doOnSubscribe(s -> LOGGER.info("ParameterClient → sincronizando snapshot con parameters-service"))
+                .repeatWhen(completed -> completed.delayElements(Duration.ofSeconds(1)))
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> LOGGER.warn("ParameterClient → stream no disponible ({}). "
+                                + "Reintentando; se sirven {} parámetros en caché.",
+                                signal.failure().getClass().getSimpleName(), snapshot.size())))
+                .subscribe();
+    }
+
+    public void stop() {
+        final Disposable current = subscription;
+        if (current != null) {
+            current.dispose();
+        }
+    }
+
+    private CachedParameter lookup(final String key) {
+        final CachedParameter cached = snapshot.get(key);
+        if (cached != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return cached;
+    }
+
+    private Mono<Void> loadAll() {
+        return webClient.get()
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<RemoteParameterResponse>>() { })
+                .timeout(Duration.ofSeconds(3))
+                .transform(call -> timed(call, "list"))
+                .doOnNext(parameters -> {
+                    final Set<String> keys = new HashSet<>();
+                    parameters.forEach(parameter -> {
+                        upsert(parameter);
+                        keys.add(parameter.key());
+                    });
+                    snapshot.keySet().retainAll(keys);
+                    LOGGER.info("ParameterClient → snapshot cargado con {} parámetros", parameters.size());
+                })
+                .then();
+    }
+
+    // Remote calls only: cache hits are already counted by the cache counters.
+    private <T> Mono<T> timed(final Mono<T> call, final String operation) {
+        return ReactiveMetrics.time(call, registry, REQUESTS_TIMER, Tags.of("operation", operation));
+    }
+
+    private Flux<ServerSentEvent<RemoteParameterResponse>> changeStream() {
+        final String resumeFrom = lastEventId;
+        return streamClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/stream").build())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .headers(headers -> {
+                    if (resumeFrom != null) {
+                        headers.set(LAST_EVENT_ID, resumeFrom);
+                    }
+                })
+                .retrieve()
+                .bodyToFlux(EVENT_TYPE)
+                .concatMap(event -> process(event)
+                        .doOnSuccess(ignored -> {
+                            if (event.id() != null) {
+                                lastEventId = event.id();
+                            }
+                        })
+                        .thenReturn(event));
+    }
+
+    private Mono<Void> process(final ServerSentEvent<RemoteParameterResponse> event) {
+        if (RESYNC_EVENT.equals(event.event())) {
+            LOGGER.warn("ParameterClient → parameters-service ya no tiene los cambios perdidos; recargando snapshot");
+            return loadAll();
+        }
+        return Mono.fromRunnable(() -> applyEvent(event));
+    }
+
+    private void applyEvent(final ServerSentEvent<RemoteParameterResponse> event) {
+        final RemoteParameterResponse payload = event.data();
+        if (payload == null || payload.key() == null) {
+            return;
+        }
+        if (event.event() != null && event.event().toUpperCase().contains("DELETE")) {
+            snapshot.remove(payload.key());
+            return;
+        }
+        upsert(payload);
+    }
+
+    private void upsert(final RemoteParameterResponse payload) {
+        if (payload == null || payload.key() == null) {
+            return;
+        }
+        snapshot.put(payload.key(),
+                CachedParameter.of(new ParameterResult(payload.key(), payload.value(), "parameter-service")));
+    }
+
     private Mono<ParameterResult> handleResponse(final String key, final HttpStatusCode status,
-            final org.springframework.web.reactive.function.client.ClientResponse response) {
+            final ClientResponse response) {
         if (status.is2xxSuccessful()) {
             return response.bodyToMono(RemoteParameterResponse.class)
                     .map(resp -> {
@@ -55,6 +312,16 @@ public class ParameterClient {
             public Mono<ParameterResult> get(final String key) {
                 return Mono.empty();
             }
+
+            @Override
+            public Mono<Map<String, ParameterResult>> getAll(final Collection<String> keys) {
+                return Mono.just(Map.of());
+            }
+
+            @Override
+            public void start() {
+                // Sin servicio remoto que sincronizar.
+            }
         };
     }
 }
@@ -18,7 +18,7 @@ public class AdministradorEntityMapper {
         if (entity == null) {
             return null;
         }
-        return Administrador.create(entity.getId(), entity.getPrimerNombre(), entity.getSegundoNombre(),
+        return Administrador.rehydrate(entity.getId(), entity.getPrimerNombre(), entity.getSegundoNombre(),
                 entity.getPrimerApellido(), entity.getSegundoApellido(), entity.getCorreo(), entity.getTelefono());
     }
 }
@@ -17,6 +17,6 @@ public class CiudadEntityMapper {
         if (entity == null) {
             return null;
         }
-        return Ciudad.create(entity.getId(), entity.getNombre(), departamento);
+        return Ciudad.rehydrate(entity.getId(), entity.getNombre(), departamento);
     }
 }
@@ -21,7 +21,7 @@ public class ConjuntoResidencialEntityMapper {
         if (entity == null) {
             return null;
         }
-        return ConjuntoResidencial.create(entity.getId(), entity.getNombre(), entity.getDireccion(), ciudad,
+        return ConjuntoResidencial.rehydrate(entity.getId(), entity.getNombre(), entity.getDireccion(), ciudad,
                 administrador, entity.getTelefono());
     }
 }
@@ -0,0 +1,57 @@
+package co.edu.uco.backendvictus.infrastructure.secondary.mapper;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import co.edu.uco.backendvictus.domain.model.Administrador;
+import co.edu.uco.backendvictus.domain.model.Ciudad;
+import co.edu.uco.backendvictus.domain.model.Departamento;
+import co.edu.uco.backendvictus.domain.model.Pais;
+import co.edu.uco.backendvictus.domain.model.conjunto.ConjuntoResidencial;
+import io.r2dbc.spi.Row;
+
+/**
+ * Maps rows of the joined conjunto projection (conjunto, ciudad, departamento, pais and administrador) into the
+ * domain graph. Queries that reuse {@link #COLUMNS} and {@link #JOINS} can hydrate a conjunto in a single round-trip.
+ */
+@Component
+public class ConjuntoRowMapper {
+
+    public static final String COLUMNS = """
+            c.id, c.nombre, c.direccion, c.telefono,
+                   c.ciudad_id, c.administrador_id,
+                   ci.nombre AS nombre_ciudad,
+                   d.id AS departamento_id,
+                   d.nombre AS nombre_departamento,
+                   p.id AS pais_id,
+                   p.nombre AS nombre_pais,
+                   a.primer_nombre,
+                   a.segundo_nombre,
+                   a.primer_apellido,
+                   a.segundo_apellido,
+                   a.correo,
+                   a.telefono AS administrador_telefono
+            """;
+
+    public static final String JOINS = """
+            JOIN ciudad ci ON c.ciudad_id = ci.id
+            JOIN departamento d ON ci.departamento_id = d.id
+            JOIN pais p ON d.pais_id = p.id
+            JOIN administrador a ON c.administrador_id = a.id
+            """;
+
+    public ConjuntoResidencial toDomain(final Row row) {
+        final Pais pais = Pais.rehydrate(row.get("pais_id", UUID.class), row.get("nombre_pais", String.class));
+        final Departamento departamento = Departamento.rehydrate(row.get("departamento_id", UUID.class),
+                row.get("nombre_departamento", String.class), pais);
+        final Ciudad ciudad = Ciudad.rehydrate(row.get("ciudad_id", UUID.class), row.get("nombre_ciudad", String.class),
+                departamento);
+        final Administrador administrador = Administrador.rehydrate(row.get("administrador_id", UUID.class),
+                row.get("primer_nombre", String.class), row.get("segundo_nombre", String.class),
+                row.get("primer_apellido", String.class), row.get("segundo_apellido", String.class),
+                row.get("correo", String.class), row.get("administrador_telefono", String.class));
+        return ConjuntoResidencial.rehydrate(row.get("id", UUID.class), row.get("nombre", String.class),
+                row.get("direccion", String.class), ciudad, administrador, row.get("telefono", String.class));
+    }
+}
@@ -17,6 +17,6 @@ public class DepartamentoEntityMapper {
         if (entity == null) {
             return null;
         }
-        return Departamento.create(entity.getId(), entity.getNombre(), pais);
+        return Departamento.rehydrate(entity.getId(), entity.getNombre(), pais);
     }
 }
@@ -16,6 +16,6 @@ public class PaisEntityMapper {
         if (entity == null) {
             return null;
         }
-        return Pais.create(entity.getId(), entity.getNombre());
+        return Pais.rehydrate(entity.getId(), entity.getNombre());
     }
 }
@@ -22,6 +22,6 @@ public class ViviendaEntityMapper {
         }
         final ViviendaTipo tipo = ViviendaTipo.from(entity.getTipo());
         final ViviendaEstado estado = ViviendaEstado.from(entity.getEstado());
-        return Vivienda.create(entity.getId(), entity.getNumero(), tipo, estado, conjunto);
+        return Vivienda.rehydrate(entity.getId(), entity.getNumero(), tipo, estado, conjunto);
     }
 }
@@ -8,6 +8,7 @@ import co.edu.uco.backendvictus.domain.model.Ciudad;
 import co.edu.uco.backendvictus.domain.port.CiudadRepository;
 import co.edu.uco.backendvictus.domain.port.DepartamentoRepository;
 import co.edu.uco.backendvictus.infrastructure.secondary.entity.CiudadEntity;
+import co.edu.uco.backendvictus.infrastructure.secondary.cache.GeografiaCache;
 import co.edu.uco.backendvictus.infrastructure.secondary.mapper.CiudadEntityMapper;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -18,12 +19,15 @@ public class CiudadRepositoryAdapter implements CiudadRepository {
     private final CiudadR2dbcRepository repository;
     private final CiudadEntityMapper mapper;
     private final DepartamentoRepository departamentoRepository;
+    private final GeografiaCache cache;
 
     public CiudadRepositoryAdapter(final CiudadR2dbcRepository repository, final CiudadEntityMapper mapper,
-            final DepartamentoRepository departamentoRepository) {
+            final DepartamentoRepository departamentoRepository,
+            final GeografiaCache cache) {
         this.repository = repository;
         this.mapper = mapper;
         this.departamentoRepository = departamentoRepository;
+        this.cache = cache;
     }
 
     @Override
@@ -33,12 +37,12 @@ public class CiudadRepositoryAdapter implements CiudadRepository {
 
     @Override
     public Mono<Ciudad> findById(final UUID id) {
-        return repository.findById(id).flatMap(this::toDomain);
+        return cache.ciudad(id, key -> repository.findById(key).flatMap(this::toDomain));
     }
 
     @Override
     public Flux<Ciudad> findAll() {
-        return repository.findAll().flatMap(this::toDomain);
+        return repository.findAll().flatMap(this::toDomain).doOnNext(cache::put);
     }
 
     @Override
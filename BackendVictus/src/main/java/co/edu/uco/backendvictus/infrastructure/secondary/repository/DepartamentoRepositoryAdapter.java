@@ -8,6 +8,7 @@ import co.edu.uco.backendvictus.domain.model.Departamento;
 import co.edu.uco.backendvictus.domain.port.DepartamentoRepository;
 import co.edu.uco.backendvictus.domain.port.PaisRepository;
 import co.edu.uco.backendvictus.infrastructure.secondary.entity.DepartamentoEntity;
+import co.edu.uco.backendvictus.infrastructure.secondary.cache.GeografiaCache;
 import co.edu.uco.backendvictus.infrastructure.secondary.mapper.DepartamentoEntityMapper;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -18,12 +19,15 @@ public class DepartamentoRepositoryAdapter implements DepartamentoRepository {
     private final DepartamentoR2dbcRepository repository;
     private final DepartamentoEntityMapper mapper;
     private final PaisRepository paisRepository;
+    private final GeografiaCache cache;
 
     public DepartamentoRepositoryAdapter(final DepartamentoR2dbcRepository repository,
-            final DepartamentoEntityMapper mapper, final PaisRepository paisRepository) {
+            final DepartamentoEntityMapper mapper, final PaisRepository paisRepository,
+            final GeografiaCache cache) {
         this.repository = repository;
         this.mapper = mapper;
         this.paisRepository = paisRepository;
+        this.cache = cache;
     }
 
     @Override
@@ -33,12 +37,12 @@ public class DepartamentoRepositoryAdapter implements DepartamentoRepository {
 
     @Override
     public Mono<Departamento> findById(final UUID id) {
-        return repository.findById(id).flatMap(this::toDomain);
+        return cache.departamento(id, key -> repository.findById(key).flatMap(this::toDomain));
     }
 
     @Override
     public Flux<Departamento> findAll() {
-        return repository.findAll().flatMap(this::toDomain);
+        return repository.findAll().flatMap(this::toDomain).doOnNext(cache::put);
     }
 
     @Override
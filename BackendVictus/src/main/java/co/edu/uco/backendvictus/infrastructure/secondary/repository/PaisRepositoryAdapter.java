@@ -6,6 +6,7 @@ import org.springframework.stereotype.Repository;
 
 import co.edu.uco.backendvictus.domain.model.Pais;
 import co.edu.uco.backendvictus.domain.port.PaisRepository;
+import co.edu.uco.backendvictus.infrastructure.secondary.cache.GeografiaCache;
 import co.edu.uco.backendvictus.infrastructure.secondary.mapper.PaisEntityMapper;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -15,10 +16,13 @@ public class PaisRepositoryAdapter implements PaisRepository {
 
     private final PaisR2dbcRepository repository;
     private final PaisEntityMapper mapper;
+    private final GeografiaCache cache;
 
-    public PaisRepositoryAdapter(final PaisR2dbcRepository repository, final PaisEntityMapper mapper) {
+    public PaisRepositoryAdapter(final PaisR2dbcRepository repository, final PaisEntityMapper mapper,
+            final GeografiaCache cache) {
         this.repository = repository;
         this.mapper = mapper;
+        this.cache = cache;
     }
 
     @Override
@@ -28,12 +32,12 @@ public class PaisRepositoryAdapter implements PaisRepository {
 
     @Override
     public Mono<Pais> findById(final UUID id) {
-        return repository.findById(id).map(mapper::toDomain);
+        return cache.pais(id, key -> repository.findById(key).map(mapper::toDomain));
     }
 
     @Override
     public Flux<Pais> findAll() {
-        return repository.findAll().map(mapper::toDomain);
+        return repository.findAll().map(mapper::toDomain).doOnNext(cache::put);
     }
 
     @Override
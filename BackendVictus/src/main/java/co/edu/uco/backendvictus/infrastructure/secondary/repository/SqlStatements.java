@@ -0,0 +1,51 @@
+package co.edu.uco.backendvictus.infrastructure.secondary.repository;
+
+import java.util.Map;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * SQL building and binding helpers shared by the repository adapters that issue {@link DatabaseClient} statements.
+ * {@code LIKE} patterns produced here must be used with {@code ESCAPE '\'}.
+ */
+public final class SqlStatements {
+
+    private SqlStatements() {
+    }
+
+    public static void appendPredicate(final StringBuilder where, final String predicate) {
+        where.append(where.length() == 0 ? " WHERE " : " AND ").append(predicate);
+    }
+
+    /**
+     * Wraps the value in {@code %} after escaping its own wildcards, so user input only ever matches literally.
+     */
+    public static String containsPattern(final String value) {
+        return "%" + escapeLike(value) + "%";
+    }
+
+    public static String escapeLike(final String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    public static DatabaseClient.GenericExecuteSpec bindAll(final DatabaseClient.GenericExecuteSpec initial,
+            final Map<String, Object> params) {
+        DatabaseClient.GenericExecuteSpec spec = initial;
+        for (Map.Entry<String, Object> entry : params.entrySet()) {
+            spec = spec.bind(entry.getKey(), entry.getValue());
+        }
+        return spec;
+    }
+
+    /**
+     * Binds the values by index, in placeholder order ({@code $1} is index 0).
+     */
+    public static DatabaseClient.GenericExecuteSpec bindAll(final DatabaseClient.GenericExecuteSpec initial,
+            final Object... values) {
+        DatabaseClient.GenericExecuteSpec spec = initial;
+        for (int i = 0; i < values.length; i++) {
+            spec = spec.bind(i, values[i]);
+        }
+        return spec;
+    }
+}
@@ -1,74 +1,143 @@
 package co.edu.uco.backendvictus.infrastructure.secondary.repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import co.edu.uco.backendvictus.application.port.out.conjunto.ConjuntoRepositoryPort;
+import co.edu.uco.backendvictus.crosscutting.exception.ApplicationException;
 import co.edu.uco.backendvictus.domain.model.Vivienda;
 import co.edu.uco.backendvictus.domain.model.ViviendaEstado;
 import co.edu.uco.backendvictus.domain.model.ViviendaTipo;
-import co.edu.uco.backendvictus.domain.model.conjunto.ConjuntoResidencial;
 import co.edu.uco.backendvictus.domain.port.ViviendaRepository;
 import co.edu.uco.backendvictus.infrastructure.secondary.entity.ViviendaEntity;
+import co.edu.uco.backendvictus.infrastructure.secondary.mapper.ConjuntoRowMapper;
 import co.edu.uco.backendvictus.infrastructure.secondary.mapper.ViviendaEntityMapper;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Repository
 public class ViviendaRepositoryAdapter implements ViviendaRepository {
 
+    private static final String BASE_SELECT = "SELECT v.id AS vivienda_id, v.numero AS vivienda_numero,"
+            + " v.tipo AS vivienda_tipo, v.estado AS vivienda_estado, " + ConjuntoRowMapper.COLUMNS
+            + " FROM vivienda v JOIN conjunto_residencial c ON v.conjunto_id = c.id " + ConjuntoRowMapper.JOINS;
+
+    private static final String BASE_COUNT = "SELECT COUNT(*) AS total FROM vivienda v";
+
+    private static final String BATCH_INSERT = "INSERT INTO vivienda (id, numero, tipo, estado, conjunto_id) VALUES ";
+
+    // 500 rows x 5 columns keeps each statement well below PostgreSQL's 32767 bind parameter limit.
+    private static final int INSERT_BATCH_SIZE = 500;
+
     private final ViviendaR2dbcRepository repository;
     private final ViviendaEntityMapper mapper;
-    private final ConjuntoRepositoryPort conjuntoRepository;
+    private final ConjuntoRowMapper conjuntoRowMapper;
+    private final DatabaseClient databaseClient;
 
     public ViviendaRepositoryAdapter(final ViviendaR2dbcRepository repository, final ViviendaEntityMapper mapper,
-            final ConjuntoRepositoryPort conjuntoRepository) {
+            final ConjuntoRowMapper conjuntoRowMapper, final DatabaseClient databaseClient) {
         this.repository = repository;
         this.mapper = mapper;
-        this.conjuntoRepository = conjuntoRepository;
+        this.conjuntoRowMapper = conjuntoRowMapper;
+        this.databaseClient = databaseClient;
     }
 
     @Override
     public Mono<Vivienda> save(final Vivienda vivienda) {
-        return repository.save(mapper.toEntity(vivienda)).flatMap(this::toDomain);
+        // The caller already holds the conjunto graph, so there is no need to reload it after the insert/update.
+        return repository.save(mapper.toEntity(vivienda))
+                .map(saved -> mapper.toDomain(saved, vivienda.getConjunto()))
+                .onErrorMap(DuplicateKeyException.class, e -> new ApplicationException(
+                        "Ya existe una vivienda con ese número en el conjunto.", "database-constraint"));
+    }
+
+    @Override
+    @Transactional
+    public Flux<Vivienda> saveAll(final List<Vivienda> viviendas) {
+        // Ids are generated here instead of by gen_random_uuid() so the multi-row insert needs no RETURNING mapping;
+        // the rows were validated by the caller, so they are only rehydrated with their new id.
+        final List<Vivienda> withIds = viviendas.stream()
+                .map(vivienda -> vivienda.getId() != null ? vivienda
+                        : Vivienda.rehydrate(UUID.randomUUID(), vivienda.getNumero(), vivienda.getTipo(),
+                                vivienda.getEstado(), vivienda.getConjunto()))
+                .toList();
+        final List<List<Vivienda>> batches = new ArrayList<>();
+        for (int from = 0; from < withIds.size(); from += INSERT_BATCH_SIZE) {
+            batches.add(withIds.subList(from, Math.min(from + INSERT_BATCH_SIZE, withIds.size())));
+        }
+        return Flux.fromIterable(batches)
+                .concatMap(batch -> insertBatch(batch).thenMany(Flux.fromIterable(batch)))
+                .onErrorMap(DuplicateKeyException.class, e -> new ApplicationException(
+                        "Otra operación registró al mismo tiempo alguno de los números de la carga;"
+                                + " no se creó ninguna vivienda", "database-constraint"));
     }
 
     @Override
     public Mono<Vivienda> findById(final UUID id) {
-        return repository.findById(id).flatMap(this::toDomain);
+        return databaseClient.sql(BASE_SELECT + " WHERE v.id = :id")
+                .bind("id", id)
+                .map(this::mapRowToDomain)
+                .one();
     }
 
     @Override
     public Flux<Vivienda> findByFilters(final UUID conjuntoId, final ViviendaEstado estado, final ViviendaTipo tipo,
             final String numeroLike, final int page, final int size) {
-        return repository.findAll()
-                .flatMap(this::toDomain)
-                .filter(vivienda -> conjuntoId == null || vivienda.getConjunto().getId().equals(conjuntoId))
-                .filter(vivienda -> estado == null || vivienda.getEstado() == estado)
-                .filter(vivienda -> tipo == null || vivienda.getTipo() == tipo)
-                .filter(vivienda -> numeroLike == null
-                        || vivienda.getNumero().toLowerCase().contains(numeroLike.toLowerCase()))
-                .skip((long) page * size)
-                .take(size);
+        final int sanitizedPage = Math.max(page, 0);
+        final int sanitizedSize = Math.max(1, size);
+        final Map<String, Object> params = new HashMap<>();
+        final String where = buildWhere(conjuntoId, estado, tipo, numeroLike, params);
+        params.put("limit", sanitizedSize);
+        params.put("offset", (long) sanitizedPage * sanitizedSize);
+
+        return SqlStatements.bindAll(databaseClient.sql(BASE_SELECT + where
+                + " ORDER BY v.numero, v.id LIMIT :limit OFFSET :offset"), params)
+                .map(this::mapRowToDomain)
+                .all();
     }
 
     @Override
     public Mono<Long> countByFilters(final UUID conjuntoId, final ViviendaEstado estado, final ViviendaTipo tipo,
             final String numeroLike) {
-        return repository.findAll()
-                .flatMap(this::toDomain)
-                .filter(vivienda -> conjuntoId == null || vivienda.getConjunto().getId().equals(conjuntoId))
-                .filter(vivienda -> estado == null || vivienda.getEstado() == estado)
-                .filter(vivienda -> tipo == null || vivienda.getTipo() == tipo)
-                .filter(vivienda -> numeroLike == null
-                        || vivienda.getNumero().toLowerCase().contains(numeroLike.toLowerCase()))
-                .count();
+        final Map<String, Object> params = new HashMap<>();
+        final String where = buildWhere(conjuntoId, estado, tipo, numeroLike, params);
+
+        return SqlStatements.bindAll(databaseClient.sql(BASE_COUNT + where), params)
+                .map((row, metadata) -> row.get("total", Long.class))
+                .one()
+                .defaultIfEmpty(0L);
     }
 
     @Override
     public Mono<Vivienda> findByConjuntoAndNumero(final UUID conjuntoId, final String numero) {
-        return repository.findByConjuntoIdAndNumero(conjuntoId, numero).flatMap(this::toDomain);
+        return databaseClient.sql(BASE_SELECT + " WHERE v.conjunto_id = :conjuntoId AND v.numero = :numero")
+                .bind("conjuntoId", conjuntoId)
+                .bind("numero", numero)
+                .map(this::mapRowToDomain)
+                .one();
+    }
+
+    @Override
+    public Flux<String> findExistingNumeros(final UUID conjuntoId, final Collection<String> numeros) {
+        if (numeros.isEmpty()) {
+            return Flux.empty();
+        }
+        return databaseClient.sql("SELECT v.numero FROM vivienda v"
+                        + " WHERE v.conjunto_id = :conjuntoId AND v.numero = ANY(:numeros)")
+                .bind("conjuntoId", conjuntoId)
+                .bind("numeros", numeros.toArray(String[]::new))
+                .map((row, metadata) -> row.get("numero", String.class))
+                .all();
     }
 
     @Override
@@ -76,8 +145,50 @@ public class ViviendaRepositoryAdapter implements ViviendaRepository {
         return repository.deleteById(id);
     }
 
-    private Mono<Vivienda> toDomain(final ViviendaEntity entity) {
-        final Mono<ConjuntoResidencial> conjuntoMono = conjuntoRepository.findById(entity.getConjuntoId());
-        return conjuntoMono.map(conjunto -> mapper.toDomain(entity, conjunto));
+    // Builds the WHERE clause shared by the page and count queries so both always apply the same predicates.
+    private static String buildWhere(final UUID conjuntoId, final ViviendaEstado estado, final ViviendaTipo tipo,
+            final String numeroLike, final Map<String, Object> params) {
+        final StringBuilder where = new StringBuilder();
+        if (conjuntoId != null) {
+            SqlStatements.appendPredicate(where, "v.conjunto_id = :conjuntoId");
+            params.put("conjuntoId", conjuntoId);
+        }
+        if (estado != null) {
+            SqlStatements.appendPredicate(where, "v.estado = :estado");
+            params.put("estado", estado.getValue());
+        }
+        if (tipo != null) {
+            SqlStatements.appendPredicate(where, "v.tipo = :tipo");
+            params.put("tipo", tipo.getValue());
+        }
+        if (numeroLike != null && !numeroLike.isBlank()) {
+            SqlStatements.appendPredicate(where, "LOWER(v.numero) LIKE :numero ESCAPE '\\'");
+            params.put("numero", SqlStatements.containsPattern(numeroLike.toLowerCase()));
+        }
+        return where.toString();
+    }
+
+    private Mono<Long> insertBatch(final List<Vivienda> batch) {
+        final StringBuilder sql = new StringBuilder(BATCH_INSERT);
+        final Map<String, Object> params = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            final ViviendaEntity entity = mapper.toEntity(batch.get(i));
+            sql.append(i == 0 ? "" : ", ")
+                    .append("(:id").append(i).append(", :numero").append(i).append(", :tipo").append(i)
+                    .append(", :estado").append(i).append(", :conjuntoId").append(i).append(')');
+            params.put("id" + i, entity.getId());
+            params.put("numero" + i, entity.getNumero());
+            params.put("tipo" + i, entity.getTipo());
+            params.put("estado" + i, entity.getEstado());
+            params.put("conjuntoId" + i, entity.getConjuntoId());
+        }
+        return SqlStatements.bindAll(databaseClient.sql(sql.toString()), params).fetch().rowsUpdated();
+    }
+
+    private Vivienda mapRowToDomain(final Row row, final RowMetadata metadata) {
+        final ViviendaEntity entity = new ViviendaEntity(row.get("vivienda_id", UUID.class),
+                row.get("vivienda_numero", String.class), row.get("vivienda_tipo", String.class),
+                row.get("vivienda_estado", String.class), row.get("id", UUID.class));
+        return mapper.toDomain(entity, conjuntoRowMapper.toDomain(row));
     }
 }
@@ -0,0 +1,147 @@
+package co.edu.uco.backendvictus.infrastructure.secondary.repository.conjunto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import co.edu.uco.backendvictus.infrastructure.secondary.mapper.ConjuntoRowMapper;
+import co.edu.uco.backendvictus.infrastructure.secondary.repository.SqlStatements;
+
+/**
+ * Catalogue of the statements issued by {@link ConjuntoRepositoryAdapter}. Every SQL text is built once, here, with
+ * native {@code $n} placeholders, so each named query always reaches the driver with the same text: the
+ * r2dbc-postgresql statement cache ({@code r2dbc.pool.statement-cache-size}) keeps it prepared per connection and
+ * PostgreSQL can reuse its plan instead of parsing and planning the join again.
+ *
+ * <p>The optional filters of the listing are expanded into one statement per combination of present filters
+ * rather than a single statement with {@code IS NULL OR} guards, which would force a generic plan unable to use
+ * the indexes of the filters actually given.</p>
+ */
+final class ConjuntoQueries {
+
+    static final int FILTER_DEPARTAMENTO = 1;
+    static final int FILTER_CIUDAD = 1 << 1;
+    static final int FILTER_NOMBRE = 1 << 2;
+
+    private static final int FILTER_COMBINATIONS = 1 << 3;
+
+    private static final String BASE_SELECT = "SELECT " + ConjuntoRowMapper.COLUMNS
+            + " FROM conjunto_residencial c " + ConjuntoRowMapper.JOINS;
+
+    private static final String FILTERED_COUNT = """
+            SELECT COUNT(*) AS total
+            FROM conjunto_residencial c
+            JOIN ciudad ci ON c.ciudad_id = ci.id
+            """;
+
+    // Both predicates are served by idx_conjunto_nombre_trgm: substring matches for short type-ahead input and
+    // trigram similarity (pg_trgm threshold) for misspellings. $1 is the lowercase term, $2 its LIKE pattern.
+    private static final String SEARCH_WHERE =
+            " WHERE (LOWER(c.nombre) LIKE $2 ESCAPE '\\' OR LOWER(c.nombre) % $1)";
+
+    static final NamedQuery FIND_BY_ID = new NamedQuery("conjunto.findById", BASE_SELECT + " WHERE c.id = $1");
+
+    static final NamedQuery FIND_ALL = new NamedQuery("conjunto.findAll", BASE_SELECT);
+
+    static final NamedQuery FIND_PAGE = new NamedQuery("conjunto.findPage",
+            BASE_SELECT + " ORDER BY c.nombre, c.id LIMIT $1 OFFSET $2");
+
+    static final NamedQuery FIND_FIRST = new NamedQuery("conjunto.findFirst",
+            BASE_SELECT + " ORDER BY c.nombre, c.id LIMIT $1");
+
+    // Row-value comparison lets PostgreSQL seek on idx_conjunto_nombre_id instead of skipping OFFSET rows.
+    static final NamedQuery FIND_AFTER = new NamedQuery("conjunto.findAfter",
+            BASE_SELECT + " WHERE (c.nombre, c.id) > ($1, $2) ORDER BY c.nombre, c.id LIMIT $3");
+
+    static final NamedQuery SEARCH = new NamedQuery("conjunto.search", BASE_SELECT + SEARCH_WHERE
+            + " ORDER BY similarity(LOWER(c.nombre), $1) DESC, c.nombre, c.id LIMIT $3 OFFSET $4");
+
+    static final NamedQuery COUNT_SEARCH = new NamedQuery("conjunto.countSearch",
+            "SELECT COUNT(*) AS total FROM conjunto_residencial c" + SEARCH_WHERE);
+
+    private static final NamedQuery[] FILTERED = new NamedQuery[FILTER_COMBINATIONS];
+    private static final NamedQuery[] COUNT_FILTERED = new NamedQuery[FILTER_COMBINATIONS];
+
+    static {
+        // Without filters the listing is the plain page; sharing the instance keeps one text per statement.
+        FILTERED[0] = FIND_PAGE;
+        COUNT_FILTERED[0] = new NamedQuery("conjunto.countFiltered." + variant(0), FILTERED_COUNT);
+        for (int filters = 1; filters < FILTER_COMBINATIONS; filters++) {
+            final String where = filterWhere(filters);
+            final int next = Integer.bitCount(filters) + 1;
+            FILTERED[filters] = new NamedQuery("conjunto.findFiltered." + variant(filters), BASE_SELECT + where
+                    + " ORDER BY c.nombre, c.id LIMIT $" + next + " OFFSET $" + (next + 1));
+            COUNT_FILTERED[filters] = new NamedQuery("conjunto.countFiltered." + variant(filters),
+                    FILTERED_COUNT + where);
+        }
+    }
+
+    private ConjuntoQueries() {
+    }
+
+    /**
+     * Listing restricted to the {@code FILTER_*} flags set in {@code filters}. Values bind in flag order
+     * (departamento, ciudad, nombre pattern) followed by limit and offset.
+     */
+    static NamedQuery filtered(final int filters) {
+        return FILTERED[filters];
+    }
+
+    /**
+     * Count matching {@link #filtered(int)}; values bind in the same order, without limit and offset.
+     */
+    static NamedQuery countFiltered(final int filters) {
+        return COUNT_FILTERED[filters];
+    }
+
+    /**
+     * Every statement of the catalogue, one per distinct SQL text.
+     */
+    static List<NamedQuery> all() {
+        final Set<NamedQuery> queries = new LinkedHashSet<>(List.of(FIND_BY_ID, FIND_ALL, FIND_PAGE, FIND_FIRST,
+                FIND_AFTER, SEARCH, COUNT_SEARCH));
+        queries.addAll(List.of(FILTERED));
+        queries.addAll(List.of(COUNT_FILTERED));
+        return new ArrayList<>(queries);
+    }
+
+    // Names the filters present in a combination, e.g. "departamento+nombre", or "none" without filters.
+    private static String variant(final int filters) {
+        final StringJoiner variant = new StringJoiner("+");
+        variant.setEmptyValue("none");
+        if ((filters & FILTER_DEPARTAMENTO) != 0) {
+            variant.add("departamento");
+        }
+        if ((filters & FILTER_CIUDAD) != 0) {
+            variant.add("ciudad");
+        }
+        if ((filters & FILTER_NOMBRE) != 0) {
+            variant.add("nombre");
+        }
+        return variant.toString();
+    }
+
+    // Predicates only reference c and ci so the count query can skip the departamento/pais/administrador joins.
+    private static String filterWhere(final int filters) {
+        final StringBuilder where = new StringBuilder();
+        int position = 1;
+        if ((filters & FILTER_DEPARTAMENTO) != 0) {
+            SqlStatements.appendPredicate(where, "ci.departamento_id = $" + position++);
+        }
+        if ((filters & FILTER_CIUDAD) != 0) {
+            SqlStatements.appendPredicate(where, "ci.id = $" + position++);
+        }
+        if ((filters & FILTER_NOMBRE) != 0) {
+            SqlStatements.appendPredicate(where, "LOWER(c.nombre) LIKE $" + position + " ESCAPE '\\'");
+        }
+        return where.toString();
+    }
+
+    /**
+     * A statement of the catalogue: {@code name} labels it in diagnostics and tests, {@code sql} is sent verbatim.
+     */
+    record NamedQuery(String name, String sql) {
+    }
+}
@@ -1,23 +1,19 @@
 package co.edu.uco.backendvictus.infrastructure.secondary.repository.conjunto;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uco.backendvictus.application.port.out.conjunto.ConjuntoRepositoryPort;
-import co.edu.uco.backendvictus.domain.model.Administrador;
-import co.edu.uco.backendvictus.domain.model.Ciudad;
-import co.edu.uco.backendvictus.domain.model.Departamento;
-import co.edu.uco.backendvictus.domain.model.Pais;
 import co.edu.uco.backendvictus.domain.model.conjunto.ConjuntoResidencial;
 import co.edu.uco.backendvictus.domain.port.AdministradorRepository;
 import co.edu.uco.backendvictus.domain.port.CiudadRepository;
 import co.edu.uco.backendvictus.infrastructure.secondary.entity.ConjuntoResidencialEntity;
 import co.edu.uco.backendvictus.infrastructure.secondary.mapper.ConjuntoResidencialEntityMapper;
+import co.edu.uco.backendvictus.infrastructure.secondary.mapper.ConjuntoRowMapper;
+import co.edu.uco.backendvictus.infrastructure.secondary.repository.SqlStatements;
+import co.edu.uco.backendvictus.infrastructure.secondary.repository.conjunto.ConjuntoQueries.NamedQuery;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
 import reactor.core.publisher.Flux;
@@ -26,43 +22,25 @@ import reactor.core.publisher.Mono;
 @Repository
 public class ConjuntoRepositoryAdapter implements ConjuntoRepositoryPort {
 
-    private static final String BASE_SELECT = """
-            SELECT c.id, c.nombre, c.direccion, c.telefono,
-                   c.ciudad_id, c.administrador_id,
-                   ci.nombre AS nombre_ciudad,
-                   d.id AS departamento_id,
-                   d.nombre AS nombre_departamento,
-                   p.id AS pais_id,
-                   p.nombre AS nombre_pais,
-                   a.primer_nombre,
-                   a.segundo_nombre,
-                   a.primer_apellido,
-                   a.segundo_apellido,
-                   a.correo,
-                   a.telefono AS administrador_telefono
-            FROM conjunto_residencial c
-            JOIN ciudad ci ON c.ciudad_id = ci.id
-            JOIN departamento d ON ci.departamento_id = d.id
-            JOIN pais p ON d.pais_id = p.id
-            JOIN administrador a ON c.administrador_id = a.id
-            """;
-
     private final ConjuntoR2dbcRepository repository;
     private final ConjuntoResidencialEntityMapper mapper;
     private final CiudadRepository ciudadRepository;
     private final AdministradorRepository administradorRepository;
     private final DatabaseClient databaseClient;
+    private final ConjuntoRowMapper rowMapper;
 
     public ConjuntoRepositoryAdapter(final ConjuntoR2dbcRepository repository,
             final ConjuntoResidencialEntityMapper mapper,
             final CiudadRepository ciudadRepository,
             final AdministradorRepository administradorRepository,
-            final DatabaseClient databaseClient) {
+            final DatabaseClient databaseClient,
+            final ConjuntoRowMapper rowMapper) {
         this.repository = repository;
         this.mapper = mapper;
         this.ciudadRepository = ciudadRepository;
         this.administradorRepository = administradorRepository;
         this.databaseClient = databaseClient;
+        this.rowMapper = rowMapper;
     }
 
     @Override
@@ -76,7 +54,7 @@ public class ConjuntoRepositoryAdapter implements ConjuntoRepositoryPort {
 
     @Override
     public Mono<ConjuntoResidencial> findById(final UUID id) {
-        return repository.findById(id).flatMap(this::toDomain);
+        return queryConjuntos(ConjuntoQueries.FIND_BY_ID, id).next();
     }
 
     @Override
@@ -103,17 +81,23 @@ public class ConjuntoRepositoryAdapter implements ConjuntoRepositoryPort {
 
     @Override
     public Flux<ConjuntoResidencial> findAllWithNames() {
-        return queryConjuntos(BASE_SELECT, Collections.emptyMap());
+        return queryConjuntos(ConjuntoQueries.FIND_ALL);
     }
 
     @Override
     public Flux<ConjuntoResidencial> findAllWithNamesPaged(final int page, final int size) {
         final int sanitizedPage = Math.max(page, 0);
         final int sanitizedSize = Math.max(1, size);
-        Map<String, Object> params = new HashMap<>();
-        params.put("limit", sanitizedSize);
-        params.put("offset", sanitizedPage * sanitizedSize);
-        return queryConjuntos(BASE_SELECT + " ORDER BY c.nombre LIMIT :limit OFFSET :offset", params);
+        return queryConjuntos(ConjuntoQueries.FIND_PAGE, sanitizedSize, (long) sanitizedPage * sanitizedSize);
+    }
+
+    @Override
+    public Flux<ConjuntoResidencial> findAllWithNamesAfter(final String nombre, final UUID id, final int limit) {
+        final int sanitizedLimit = Math.max(1, limit);
+        if (nombre == null || id == null) {
+            return queryConjuntos(ConjuntoQueries.FIND_FIRST, sanitizedLimit);
+        }
+        return queryConjuntos(ConjuntoQueries.FIND_AFTER, nombre, id, sanitizedLimit);
     }
 
     @Override
@@ -122,51 +106,85 @@ public class ConjuntoRepositoryAdapter implements ConjuntoRepositoryPort {
     }
 
     @Override
-    public Flux<ConjuntoResidencial> findByDepartamentoId(final UUID departamentoId) {
-        return queryConjuntos(BASE_SELECT + " WHERE d.id = :departamentoId",
-                Map.of("departamentoId", departamentoId));
+    public Flux<ConjuntoResidencial> findFiltered(final UUID departamentoId, final UUID ciudadId, final String nombre,
+            final int page, final int size) {
+        final int sanitizedPage = Math.max(page, 0);
+        final int sanitizedSize = Math.max(1, size);
+        final int filters = filters(departamentoId, ciudadId, nombre);
+        final Object[] values = filterValues(filters, departamentoId, ciudadId, nombre, 2);
+        values[values.length - 2] = sanitizedSize;
+        values[values.length - 1] = (long) sanitizedPage * sanitizedSize;
+        return queryConjuntos(ConjuntoQueries.filtered(filters), values);
     }
 
     @Override
-    public Flux<ConjuntoResidencial> findByCiudadId(final UUID ciudadId) {
-        return queryConjuntos(BASE_SELECT + " WHERE ci.id = :ciudadId",
-                Map.of("ciudadId", ciudadId));
+    public Mono<Long> countFiltered(final UUID departamentoId, final UUID ciudadId, final String nombre) {
+        final int filters = filters(departamentoId, ciudadId, nombre);
+        return count(ConjuntoQueries.countFiltered(filters),
+                filterValues(filters, departamentoId, ciudadId, nombre, 0));
     }
 
     @Override
-    public Flux<ConjuntoResidencial> findByDepartamentoIdAndCiudadId(final UUID departamentoId, final UUID ciudadId) {
-        Map<String, Object> params = new HashMap<>();
-        params.put("departamentoId", departamentoId);
-        params.put("ciudadId", ciudadId);
-        return queryConjuntos(BASE_SELECT + " WHERE d.id = :departamentoId AND ci.id = :ciudadId", params);
+    public Flux<ConjuntoResidencial> searchByNombre(final String term, final int page, final int size) {
+        final int sanitizedPage = Math.max(page, 0);
+        final int sanitizedSize = Math.max(1, size);
+        final String normalized = term.toLowerCase();
+        return queryConjuntos(ConjuntoQueries.SEARCH, normalized, SqlStatements.containsPattern(normalized), sanitizedSize,
+                (long) sanitizedPage * sanitizedSize);
     }
 
     @Override
-    public Flux<ConjuntoResidencial> findByNombre(final String nombre) {
-        return queryConjuntos(BASE_SELECT + " WHERE LOWER(c.nombre) LIKE LOWER(:pattern)",
-                Map.of("pattern", "%" + nombre + "%"));
+    public Mono<Long> countSearchByNombre(final String term) {
+        final String normalized = term.toLowerCase();
+        return count(ConjuntoQueries.COUNT_SEARCH, normalized, SqlStatements.containsPattern(normalized));
+    }
+
+    private static int filters(final UUID departamentoId, final UUID ciudadId, final String nombre) {
+        int filters = 0;
+        if (departamentoId != null) {
+            filters |= ConjuntoQueries.FILTER_DEPARTAMENTO;
+        }
+        if (ciudadId != null) {
+            filters |= ConjuntoQueries.FILTER_CIUDAD;
+        }
+        if (nombre != null && !nombre.isBlank()) {
+            filters |= ConjuntoQueries.FILTER_NOMBRE;
+        }
+        return filters;
     }
 
-    private Flux<ConjuntoResidencial> queryConjuntos(final String sql, final Map<String, Object> params) {
-        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
-        for (Map.Entry<String, Object> entry : params.entrySet()) {
-            spec = spec.bind(entry.getKey(), entry.getValue());
+    // Values of the present filters in placeholder order, leaving trailing slots for limit and offset.
+    private static Object[] filterValues(final int filters, final UUID departamentoId, final UUID ciudadId,
+            final String nombre, final int trailing) {
+        final Object[] values = new Object[Integer.bitCount(filters) + trailing];
+        int position = 0;
+        if ((filters & ConjuntoQueries.FILTER_DEPARTAMENTO) != 0) {
+            values[position++] = departamentoId;
         }
-        return spec.map(this::mapRowToDomain).all();
+        if ((filters & ConjuntoQueries.FILTER_CIUDAD) != 0) {
+            values[position++] = ciudadId;
+        }
+        if ((filters & ConjuntoQueries.FILTER_NOMBRE) != 0) {
+            values[position] = SqlStatements.containsPattern(nombre.toLowerCase());
+        }
+        return values;
+    }
+
+    private Flux<ConjuntoResidencial> queryConjuntos(final NamedQuery query, final Object... values) {
+        return prepare(query, values).map(this::mapRowToDomain).all();
+    }
+
+    private Mono<Long> count(final NamedQuery query, final Object... values) {
+        return prepare(query, values).map((row, metadata) -> row.get("total", Long.class)).one()
+                .defaultIfEmpty(0L);
+    }
+
+    private DatabaseClient.GenericExecuteSpec prepare(final NamedQuery query, final Object[] values) {
+        return SqlStatements.bindAll(databaseClient.sql(query.sql()), values);
     }
 
     private ConjuntoResidencial mapRowToDomain(final Row row, final RowMetadata metadata) {
-        final Pais pais = Pais.create(row.get("pais_id", UUID.class), row.get("nombre_pais", String.class));
-        final Departamento departamento = Departamento.create(row.get("departamento_id", UUID.class),
-                row.get("nombre_departamento", String.class), pais);
-        final Ciudad ciudad = Ciudad.create(row.get("ciudad_id", UUID.class), row.get("nombre_ciudad", String.class),
-                departamento);
-        final Administrador administrador = Administrador.create(row.get("administrador_id", UUID.class),
-                row.get("primer_nombre", String.class), row.get("segundo_nombre", String.class),
-                row.get("primer_apellido", String.class), row.get("segundo_apellido", String.class),
-                row.get("correo", String.class), row.get("administrador_telefono", String.class));
-        return ConjuntoResidencial.create(row.get("id", UUID.class), row.get("nombre", String.class),
-                row.get("direccion", String.class), ciudad, administrador, row.get("telefono", String.class));
+        return rowMapper.toDomain(row);
     }
 
     private Mono<ConjuntoResidencial> toDomain(final ConjuntoResidencialEntity entity) {
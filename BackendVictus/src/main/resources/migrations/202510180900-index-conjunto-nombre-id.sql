@@ -0,0 +1,2 @@
+-- Supports keyset pagination of conjuntos: WHERE (nombre, id) > (:nombre, :id) ORDER BY nombre, id
+CREATE INDEX IF NOT EXISTS idx_conjunto_nombre_id ON conjunto_residencial (nombre, id);
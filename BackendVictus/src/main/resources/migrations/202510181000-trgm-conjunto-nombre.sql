@@ -0,0 +1,4 @@
+-- Trigram index for substring / fuzzy search over conjunto names (LIKE '%x%', % and similarity()).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_conjunto_nombre_trgm ON conjunto_residencial USING GIN (LOWER(nombre) gin_trgm_ops);
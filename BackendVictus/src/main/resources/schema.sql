@@ -1,4 +1,5 @@
 CREATE EXTENSION IF NOT EXISTS pgcrypto;
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
 
 CREATE TABLE IF NOT EXISTS pais (
     id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
@@ -48,3 +49,9 @@ CREATE TABLE IF NOT EXISTS vivienda (
     conjunto_id UUID NOT NULL,
     CONSTRAINT fk_vivienda_conjunto FOREIGN KEY (conjunto_id) REFERENCES conjunto_residencial(id) ON DELETE CASCADE
 );
+
+-- Unique so that concurrent creates and bulk imports cannot both insert the same numero in a conjunto.
+DROP INDEX IF EXISTS idx_vivienda_conjunto_numero;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_vivienda_conjunto_numero ON vivienda (conjunto_id, numero);
+CREATE INDEX IF NOT EXISTS idx_conjunto_nombre_id ON conjunto_residencial (nombre, id);
+CREATE INDEX IF NOT EXISTS idx_conjunto_nombre_trgm ON conjunto_residencial USING GIN (LOWER(nombre) gin_trgm_ops);
@@ -0,0 +1,38 @@
+package co.edu.uco.backendvictus.application.dto.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import co.edu.uco.backendvictus.crosscutting.exception.ApplicationException;
+
+class PageCursorTest {
+
+    @Test
+    void shouldRoundTripThroughAnUrlSafeToken() {
+        final PageCursor cursor = new PageCursor("Conjunto\nLos Álamos/+?", UUID.randomUUID());
+
+        final String encoded = cursor.encode();
+
+        assertFalse(encoded.matches(".*[+/=].*"));
+        assertEquals(cursor, PageCursor.decode(encoded));
+    }
+
+    @Test
+    void shouldRejectMalformedCursors() {
+        final String withoutSeparator = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("Conjunto".getBytes(StandardCharsets.UTF_8));
+        final String withInvalidId = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("Conjunto\nno-es-uuid".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(ApplicationException.class, () -> PageCursor.decode("%%%"));
+        assertThrows(ApplicationException.class, () -> PageCursor.decode(withoutSeparator));
+        assertThrows(ApplicationException.class, () -> PageCursor.decode(withInvalidId));
+    }
+}
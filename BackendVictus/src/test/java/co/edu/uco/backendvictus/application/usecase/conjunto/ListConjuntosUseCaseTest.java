@@ -0,0 +1,294 @@
+package co.edu.uco.backendvictus.application.usecase.conjunto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import co.edu.uco.backendvictus.application.dto.common.PageResponse;
+import co.edu.uco.backendvictus.application.dto.conjunto.ConjuntoResponse;
+import co.edu.uco.backendvictus.application.mapper.ConjuntoApplicationMapper;
+import co.edu.uco.backendvictus.application.port.out.conjunto.ConjuntoRepositoryPort;
+import co.edu.uco.backendvictus.crosscutting.exception.ApplicationException;
+import co.edu.uco.backendvictus.domain.model.Administrador;
+import co.edu.uco.backendvictus.domain.model.Ciudad;
+import co.edu.uco.backendvictus.domain.model.Departamento;
+import co.edu.uco.backendvictus.domain.model.Pais;
+import co.edu.uco.backendvictus.domain.model.conjunto.ConjuntoResidencial;
+import co.edu.uco.backendvictus.seeds.ViviendaFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ListConjuntosUseCaseTest {
+
+    private static final int CONJUNTOS = 5;
+
+    private InMemoryConjuntoRepository repository;
+    private ListConjuntosUseCase useCase;
+    private Departamento antioquia;
+    private Departamento caldas;
+    private Ciudad medellin;
+    private Ciudad envigado;
+
+    // Conjunto 0 and 1 are in medellin, 2 in envigado (both antioquia), 3 and 4 in manizales (caldas).
+    @BeforeEach
+    void setUp() {
+        final Pais pais = ViviendaFactory.buildPais();
+        antioquia = ViviendaFactory.buildDepartamento(pais, 0);
+        caldas = ViviendaFactory.buildDepartamento(pais, 1);
+        medellin = ViviendaFactory.buildCiudad(antioquia, 0);
+        envigado = ViviendaFactory.buildCiudad(antioquia, 1);
+        final Ciudad manizales = ViviendaFactory.buildCiudad(caldas, 2);
+        final Ciudad[] ciudades = {medellin, medellin, envigado, manizales, manizales};
+        final Administrador administrador = ViviendaFactory.buildAdministrador(0);
+        final List<ConjuntoResidencial> conjuntos = new ArrayList<>();
+        for (int i = 0; i < CONJUNTOS; i++) {
+            conjuntos.add(ViviendaFactory.buildConjunto(ciudades[i], administrador, i));
+        }
+        repository = new InMemoryConjuntoRepository(conjuntos);
+        useCase = new ListConjuntosUseCase(repository, Mappers.getMapper(ConjuntoApplicationMapper.class));
+    }
+
+    @Test
+    void shouldApplyEveryCombinationOfFilters() {
+        final UUID dep = antioquia.getId();
+        final UUID ciu = medellin.getId();
+
+        assertFiltered(null, null, null, "Conjunto 0", "Conjunto 1", "Conjunto 2", "Conjunto 3", "Conjunto 4");
+        assertFiltered(dep, null, null, "Conjunto 0", "Conjunto 1", "Conjunto 2");
+        assertFiltered(null, ciu, null, "Conjunto 0", "Conjunto 1");
+        assertFiltered(null, null, "JUNTO 3", "Conjunto 3");
+        assertFiltered(dep, ciu, null, "Conjunto 0", "Conjunto 1");
+        assertFiltered(dep, null, "junto 2", "Conjunto 2");
+        assertFiltered(null, ciu, "junto 1", "Conjunto 1");
+        assertFiltered(dep, ciu, "junto 1", "Conjunto 1");
+        assertFiltered(caldas.getId(), ciu, null);
+    }
+
+    @Test
+    void shouldPageFilteredResultsAndReportTheFilteredTotal() {
+        StepVerifier.create(useCase.executeFiltered(antioquia.getId(), null, null, 1, 2))
+                .assertNext(page -> {
+                    assertEquals(List.of("Conjunto 2"), nombres(page));
+                    assertEquals(3L, page.total());
+                    assertEquals(1, page.page());
+                    assertEquals(2, page.size());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(useCase.executeFiltered(null, envigado.getId(), "  ", 5, 0))
+                .assertNext(page -> {
+                    assertEquals(List.of(), page.items());
+                    assertEquals(1L, page.total());
+                    assertEquals(ListConjuntosUseCase.DEFAULT_PAGE_SIZE, page.size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldRankSearchResultsAndPageThem() {
+        StepVerifier.create(useCase.executeSearch("junto 3", 0, 10))
+                .assertNext(page -> {
+                    assertEquals(List.of("Conjunto 3"), nombres(page));
+                    assertEquals(1L, page.total());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(useCase.executeSearch("conjunto", 2, 2))
+                .assertNext(page -> {
+                    assertEquals(List.of("Conjunto 4"), nombres(page));
+                    assertEquals(5L, page.total());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(useCase.executeSearch("conjunto", 9, 1_000))
+                .assertNext(page -> {
+                    assertEquals(List.of(), page.items());
+                    assertEquals(5L, page.total());
+                    assertEquals(ListConjuntosUseCase.MAX_PAGE_SIZE, page.size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldNotQueryWhenSearchTermIsBlank() {
+        StepVerifier.create(useCase.executeSearch("   ", 0, 10))
+                .assertNext(page -> {
+                    assertEquals(List.of(), page.items());
+                    assertEquals(0L, page.total());
+                })
+                .verifyComplete();
+
+        assertEquals(0, repository.searches.get());
+    }
+
+    @Test
+    void shouldWalkEveryKeysetPageCountingOnlyOnTheFirst() {
+        final List<String> nombres = new ArrayList<>();
+
+        PageResponse<ConjuntoResponse> page = useCase.executeKeyset("", 2).block();
+        assertEquals(5L, page.total());
+        page.items().forEach(item -> nombres.add(item.nombre()));
+
+        while (page.nextCursor() != null) {
+            page = useCase.executeKeyset(page.nextCursor(), 2).block();
+            assertNull(page.total());
+            page.items().forEach(item -> nombres.add(item.nombre()));
+        }
+
+        assertEquals(List.of("Conjunto 0", "Conjunto 1", "Conjunto 2", "Conjunto 3", "Conjunto 4"), nombres);
+        assertEquals(1, repository.counts.get());
+    }
+
+    @Test
+    void shouldOmitNextCursorWhenThePageIsExactlyFull() {
+        StepVerifier.create(useCase.executeKeyset(null, CONJUNTOS))
+                .assertNext(page -> {
+                    assertEquals(CONJUNTOS, page.items().size());
+                    assertNull(page.nextCursor());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(useCase.executeKeyset(null, CONJUNTOS - 1))
+                .assertNext(page -> {
+                    assertEquals(CONJUNTOS - 1, page.items().size());
+                    assertNotNull(page.nextCursor());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldSignalMalformedCursorAsErrorInsteadOfThrowing() {
+        final Mono<PageResponse<ConjuntoResponse>> page = useCase.executeKeyset("no-es-un-cursor", 2);
+
+        StepVerifier.create(page)
+                .expectError(ApplicationException.class)
+                .verify();
+        assertEquals(0, repository.counts.get());
+    }
+
+    private void assertFiltered(final UUID departamentoId, final UUID ciudadId, final String nombre,
+            final String... expected) {
+        StepVerifier.create(useCase.executeFiltered(departamentoId, ciudadId, nombre, 0, 10))
+                .assertNext(page -> {
+                    assertEquals(List.of(expected), nombres(page));
+                    assertEquals((long) expected.length, page.total());
+                })
+                .verifyComplete();
+    }
+
+    private static List<String> nombres(final PageResponse<ConjuntoResponse> page) {
+        return page.items().stream().map(ConjuntoResponse::nombre).toList();
+    }
+
+    private static final class InMemoryConjuntoRepository implements ConjuntoRepositoryPort {
+
+        private static final Comparator<ConjuntoResidencial> ORDER = Comparator
+                .comparing(ConjuntoResidencial::getNombre)
+                .thenComparing(ConjuntoResidencial::getId);
+
+        private final List<ConjuntoResidencial> store;
+        private final AtomicInteger counts = new AtomicInteger();
+        private final AtomicInteger searches = new AtomicInteger();
+
+        private InMemoryConjuntoRepository(final List<ConjuntoResidencial> conjuntos) {
+            this.store = conjuntos.stream().sorted(ORDER).toList();
+        }
+
+        @Override
+        public Mono<ConjuntoResidencial> save(final ConjuntoResidencial conjuntoResidencial) {
+            return Mono.error(new UnsupportedOperationException());
+        }
+
+        @Override
+        public Mono<ConjuntoResidencial> findById(final UUID id) {
+            return findAll().filter(c -> c.getId().equals(id)).next();
+        }
+
+        @Override
+        public Flux<ConjuntoResidencial> findAll() {
+            return Flux.fromIterable(store);
+        }
+
+        @Override
+        public Mono<Void> deleteById(final UUID id) {
+            return Mono.error(new UnsupportedOperationException());
+        }
+
+        @Override
+        public Mono<ConjuntoResidencial> findByCiudadAndNombre(final UUID ciudadId, final String nombre) {
+            return findAll().filter(c -> c.getCiudad().getId().equals(ciudadId) && c.getNombre().equals(nombre))
+                    .next();
+        }
+
+        @Override
+        public Flux<ConjuntoResidencial> findAllByTelefono(final String telefono) {
+            return findAll().filter(c -> telefono.equals(c.getTelefono()));
+        }
+
+        @Override
+        public Flux<ConjuntoResidencial> findAllWithNames() {
+            return findAll();
+        }
+
+        @Override
+        public Flux<ConjuntoResidencial> findAllWithNamesPaged(final int page, final int size) {
+            return findAll().skip((long) page * size).take(size);
+        }
+
+        @Override
+        public Flux<ConjuntoResidencial> findAllWithNamesAfter(final String nombre, final UUID id, final int limit) {
+            return findAll()
+                    .filter(c -> nombre == null || c.getNombre().compareTo(nombre) > 0
+                            || (c.getNombre().equals(nombre) && c.getId().compareTo(id) > 0))
+                    .take(limit);
+        }
+
+        @Override
+        public Mono<Long> countAll() {
+            return Mono.fromSupplier(() -> {
+                counts.incrementAndGet();
+                return (long) store.size();
+            });
+        }
+
+        @Override
+        public Flux<ConjuntoResidencial> findFiltered(final UUID departamentoId, final UUID ciudadId,
+                final String nombre, final int page, final int size) {
+            return findAll()
+                    .filter(c -> departamentoId == null
+                            || c.getCiudad().getDepartamento().getId().equals(departamentoId))
+                    .filter(c -> ciudadId == null || c.getCiudad().getId().equals(ciudadId))
+                    .filter(c -> nombre == null || c.getNombre().toLowerCase().contains(nombre.toLowerCase()))
+                    .skip((long) page * size)
+                    .take(size);
+        }
+
+        @Override
+        public Mono<Long> countFiltered(final UUID departamentoId, final UUID ciudadId, final String nombre) {
+            return findFiltered(departamentoId, ciudadId, nombre, 0, Integer.MAX_VALUE).count();
+        }
+
+        @Override
+        public Flux<ConjuntoResidencial> searchByNombre(final String term, final int page, final int size) {
+            searches.incrementAndGet();
+            return findFiltered(null, null, term, page, size);
+        }
+
+        @Override
+        public Mono<Long> countSearchByNombre(final String term) {
+            searches.incrementAndGet();
+            return countFiltered(null, null, term);
+        }
+    }
+}
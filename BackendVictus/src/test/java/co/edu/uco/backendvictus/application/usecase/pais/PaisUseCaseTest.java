@@ -14,6 +14,7 @@ import org.mapstruct.factory.Mappers;
 import co.edu.uco.backendvictus.application.dto.pais.PaisCreateRequest;
 import co.edu.uco.backendvictus.application.dto.pais.PaisUpdateRequest;
 import co.edu.uco.backendvictus.application.mapper.PaisApplicationMapper;
+import co.edu.uco.backendvictus.application.port.out.geografia.GeografiaCachePort;
 import co.edu.uco.backendvictus.crosscutting.exception.ApplicationException;
 import co.edu.uco.backendvictus.domain.model.Pais;
 import co.edu.uco.backendvictus.domain.port.PaisRepository;
@@ -52,8 +53,8 @@ class PaisUseCaseTest {
     @Test
     void shouldUpdateAndDeletePais() {
         final CreatePaisUseCase createUseCase = new CreatePaisUseCase(repository, mapper);
-        final UpdatePaisUseCase updateUseCase = new UpdatePaisUseCase(repository, mapper);
-        final DeletePaisUseCase deleteUseCase = new DeletePaisUseCase(repository);
+        final UpdatePaisUseCase updateUseCase = new UpdatePaisUseCase(repository, mapper, new NoOpGeografiaCache());
+        final DeletePaisUseCase deleteUseCase = new DeletePaisUseCase(repository, new NoOpGeografiaCache());
 
         final PaisResponseHolder holder = new PaisResponseHolder();
 
@@ -96,8 +97,10 @@ class PaisUseCaseTest {
 
         @Override
         public Mono<Pais> save(final Pais pais) {
-            store.put(pais.getId(), pais);
-            return Mono.just(pais);
+            // Mimic the database default (gen_random_uuid()) for new rows.
+            final Pais persisted = pais.getId() == null ? Pais.create(UUID.randomUUID(), pais.getNombre()) : pais;
+            store.put(persisted.getId(), persisted);
+            return Mono.just(persisted);
         }
 
         @Override
@@ -116,4 +119,22 @@ class PaisUseCaseTest {
             return Mono.empty();
         }
     }
+
+    private static final class NoOpGeografiaCache implements GeografiaCachePort {
+
+        @Override
+        public Mono<Void> evictPais(final UUID paisId) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> evictDepartamento(final UUID departamentoId) {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<Void> evictCiudad(final UUID ciudadId) {
+            return Mono.empty();
+        }
+    }
 }
@@ -2,6 +2,8 @@ package co.edu.uco.backendvictus.application.usecase.vivienda;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -128,6 +130,45 @@ class ViviendaUseCaseTest {
                 .verifyComplete();
     }
 
+    @Test
+    void shouldImportViviendasReportingRejectedRows() {
+        final CreateViviendaUseCase createUseCase = new CreateViviendaUseCase(viviendaRepository,
+                conjuntoRepository, mapper);
+        final ImportViviendasUseCase importUseCase = new ImportViviendasUseCase(viviendaRepository,
+                conjuntoRepository, mapper);
+
+        StepVerifier.create(createUseCase.execute(new ViviendaCreateRequest(conjunto.getId(), "101", "Casa", null)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        final List<ViviendaCreateRequest> rows = List.of(
+                new ViviendaCreateRequest(conjunto.getId(), "301", "Apartamento", null),
+                new ViviendaCreateRequest(conjunto.getId(), "101", "Casa", null),
+                new ViviendaCreateRequest(conjunto.getId(), "302", "Castillo", null),
+                new ViviendaCreateRequest(conjunto.getId(), "301", "Casa", null),
+                new ViviendaCreateRequest(UUID.randomUUID(), "401", "Casa", null),
+                new ViviendaCreateRequest(conjunto.getId(), "303", "Estudio", "Ocupada"));
+
+        StepVerifier.create(importUseCase.execute(rows))
+                .assertNext(response -> {
+                    assertEquals(6, response.total());
+                    assertEquals(2, response.created());
+                    assertEquals(4, response.rejected());
+                    assertEquals("301", response.results().get(0).vivienda().numero());
+                    assertEquals("Ya existe una vivienda con ese número en el conjunto.",
+                            response.results().get(1).error());
+                    assertEquals("Tipo de vivienda no es valido", response.results().get(2).error());
+                    assertEquals("El numero de vivienda esta repetido en la carga", response.results().get(3).error());
+                    assertEquals("Conjunto residencial no encontrado", response.results().get(4).error());
+                    assertEquals("Ocupada", response.results().get(5).vivienda().estado());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(viviendaRepository.countByFilters(conjunto.getId(), null, null, null))
+                .expectNext(3L)
+                .verifyComplete();
+    }
+
     private static final class InMemoryConjuntoRepository implements ConjuntoRepositoryPort {
 
         private final Map<UUID, ConjuntoResidencial> store = new ConcurrentHashMap<>();
@@ -183,36 +224,46 @@ class ViviendaUseCaseTest {
                     .take(Math.max(1, size));
         }
 
+        @Override
+        public Flux<ConjuntoResidencial> findAllWithNamesAfter(final String nombre, final UUID id, final int limit) {
+            return findAllWithNames()
+                    .filter(c -> nombre == null || c.getNombre().compareTo(nombre) > 0
+                            || (c.getNombre().equals(nombre) && c.getId().compareTo(id) > 0))
+                    .sort(java.util.Comparator.comparing(ConjuntoResidencial::getNombre)
+                            .thenComparing(ConjuntoResidencial::getId))
+                    .take(Math.max(1, limit));
+        }
+
         @Override
         public Mono<Long> countAll() {
             return Mono.just((long) store.size());
         }
 
         @Override
-        public Flux<ConjuntoResidencial> findByDepartamentoId(final UUID departamentoId) {
+        public Flux<ConjuntoResidencial> findFiltered(final UUID departamentoId, final UUID ciudadId,
+                final String nombre, final int page, final int size) {
             return Flux.fromIterable(store.values())
-                    .filter(c -> c.getCiudad() != null && c.getCiudad().getDepartamento() != null
-                            && c.getCiudad().getDepartamento().getId().equals(departamentoId));
+                    .filter(c -> departamentoId == null
+                            || c.getCiudad().getDepartamento().getId().equals(departamentoId))
+                    .filter(c -> ciudadId == null || c.getCiudad().getId().equals(ciudadId))
+                    .filter(c -> nombre == null || c.getNombre().toLowerCase().contains(nombre.toLowerCase()))
+                    .skip((long) Math.max(page, 0) * Math.max(1, size))
+                    .take(Math.max(1, size));
         }
 
         @Override
-        public Flux<ConjuntoResidencial> findByCiudadId(final UUID ciudadId) {
-            return Flux.fromIterable(store.values())
-                    .filter(c -> c.getCiudad() != null && c.getCiudad().getId().equals(ciudadId));
+        public Mono<Long> countFiltered(final UUID departamentoId, final UUID ciudadId, final String nombre) {
+            return findFiltered(departamentoId, ciudadId, nombre, 0, Integer.MAX_VALUE).count();
         }
 
         @Override
-        public Flux<ConjuntoResidencial> findByDepartamentoIdAndCiudadId(final UUID departamentoId, final UUID ciudadId) {
-            return Flux.fromIterable(store.values())
-                    .filter(c -> c.getCiudad() != null && c.getCiudad().getDepartamento() != null
-                            && c.getCiudad().getDepartamento().getId().equals(departamentoId)
-                            && c.getCiudad().getId().equals(ciudadId));
+        public Flux<ConjuntoResidencial> searchByNombre(final String term, final int page, final int size) {
+            return findFiltered(null, null, term, page, size);
         }
 
         @Override
-        public Flux<ConjuntoResidencial> findByNombre(final String nombre) {
-            return Flux.fromIterable(store.values())
-                    .filter(c -> c.getNombre().toLowerCase().contains(nombre.toLowerCase()));
+        public Mono<Long> countSearchByNombre(final String term) {
+            return countFiltered(null, null, term);
         }
     }
 
@@ -222,8 +273,18 @@ class ViviendaUseCaseTest {
 
         @Override
         public Mono<Vivienda> save(final Vivienda vivienda) {
-            store.put(vivienda.getId(), vivienda);
-            return Mono.just(vivienda);
+            // Mimic the database default (gen_random_uuid()) for new rows.
+            final Vivienda persisted = vivienda.getId() == null
+                    ? Vivienda.create(UUID.randomUUID(), vivienda.getNumero(), vivienda.getTipo(),
+                            vivienda.getEstado(), vivienda.getConjunto())
+                    : vivienda;
+            store.put(persisted.getId(), persisted);
+            return Mono.just(persisted);
+        }
+
+        @Override
+        public Flux<Vivienda> saveAll(final List<Vivienda> viviendas) {
+            return Flux.fromIterable(viviendas).concatMap(this::save);
         }
 
         @Override
@@ -258,6 +319,14 @@ class ViviendaUseCaseTest {
                     .next();
         }
 
+        @Override
+        public Flux<String> findExistingNumeros(final UUID conjuntoId, final Collection<String> numeros) {
+            return Flux.fromIterable(store.values())
+                    .filter(vivienda -> vivienda.getConjunto().getId().equals(conjuntoId)
+                            && numeros.contains(vivienda.getNumero()))
+                    .map(Vivienda::getNumero);
+        }
+
         @Override
         public Mono<Void> deleteById(final UUID id) {
             store.remove(id);
@@ -0,0 +1,52 @@
+package co.edu.uco.backendvictus.crosscutting.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.text.Normalizer;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class DataSanitizerTest {
+
+    private static final String ALPHABET = "aZ09 @._-\t\n#$%&*()ñÑáÉüçÆßœ½́  K漢😀";
+
+    @Test
+    void shouldReturnCleanInputUnchanged() {
+        final String clean = "Torre Norte 101-B";
+        assertSame(clean, DataSanitizer.sanitizeText(clean));
+        assertNull(DataSanitizer.sanitizeText(null));
+    }
+
+    @Test
+    void shouldStripDiacriticsSymbolsAndCollapseWhitespace() {
+        assertEquals("Conjunto Nandu Alamos", DataSanitizer.sanitizeText("  Conjunto \t Ñandú #Álamos!  "));
+        assertEquals("ana.perez@uco.edu", DataSanitizer.sanitizeText(" ana.perez@uco.edu\n"));
+        assertEquals("", DataSanitizer.sanitizeText(" \t "));
+    }
+
+    @Test
+    void shouldMatchPreviousRegexImplementation() {
+        final Random random = new Random(42);
+        for (int sample = 0; sample < 20_000; sample++) {
+            final StringBuilder input = new StringBuilder();
+            final int length = random.nextInt(24);
+            for (int i = 0; i < length; i++) {
+                input.appendCodePoint(ALPHABET.codePointAt(ALPHABET.offsetByCodePoints(0,
+                        random.nextInt(ALPHABET.codePointCount(0, ALPHABET.length())))));
+            }
+            final String value = input.toString();
+            assertEquals(regexSanitize(value), DataSanitizer.sanitizeText(value), () -> "input: " + value);
+        }
+    }
+
+    private static String regexSanitize(final String rawValue) {
+        return Normalizer.normalize(rawValue, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .replaceAll("[^\\p{Alnum}\\s@._-]", "")
+                .trim()
+                .replaceAll("\\s+", " ");
+    }
+}
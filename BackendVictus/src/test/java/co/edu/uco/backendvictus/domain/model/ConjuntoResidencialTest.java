@@ -7,6 +7,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
 import co.edu.uco.backendvictus.crosscutting.exception.DomainException;
+import co.edu.uco.backendvictus.domain.model.conjunto.ConjuntoResidencial;
 
 class ConjuntoResidencialTest {
 
@@ -8,6 +8,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
 import co.edu.uco.backendvictus.crosscutting.exception.DomainException;
+import co.edu.uco.backendvictus.domain.model.conjunto.ConjuntoResidencial;
 import co.edu.uco.backendvictus.seeds.ViviendaFactory;
 
 class ViviendaTest {
@@ -31,9 +32,30 @@ class ViviendaTest {
         assertThrows(DomainException.class, () -> ViviendaEstado.from("Fuera de servicio"));
     }
 
+    @Test
+    void shouldResolveEnumsFromStoredValuesAndUserInput() {
+        assertEquals(ViviendaEstado.EN_MANTENIMIENTO, ViviendaEstado.from("En mantenimiento"));
+        assertEquals(ViviendaEstado.EN_MANTENIMIENTO, ViviendaEstado.from("  en   MANTENIMIENTO "));
+        assertEquals(ViviendaTipo.DUPLEX, ViviendaTipo.from("Dúplex"));
+        assertEquals(ViviendaTipo.DUPLEX, ViviendaTipo.from("duplex"));
+        assertThrows(DomainException.class, () -> ViviendaEstado.from(null));
+    }
+
     @Test
     void shouldFailWhenConjuntoMissing() {
         assertThrows(DomainException.class, () -> Vivienda.create(UUID.randomUUID(), "101", ViviendaTipo.CASA,
                 ViviendaEstado.DISPONIBLE, null));
     }
+
+    @Test
+    void shouldRehydrateWithoutValidationButValidateOnChange() {
+        final ConjuntoResidencial conjunto = ViviendaFactory.buildConjunto();
+        final Vivienda persisted = Vivienda.rehydrate(UUID.randomUUID(), "b-202", ViviendaTipo.CASA,
+                ViviendaEstado.DISPONIBLE, conjunto);
+
+        assertEquals("b-202", persisted.getNumero());
+        assertEquals("B-202", persisted.changeEstado(ViviendaEstado.OCUPADA).getNumero());
+        assertThrows(DomainException.class, () -> persisted.update("101", ViviendaTipo.CASA,
+                ViviendaEstado.DISPONIBLE, null));
+    }
 }
@@ -0,0 +1,97 @@
+package co.edu.uco.backendvictus.infrastructure.config.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ReactiveMetricsPostProcessorTest {
+
+    private static final String PACKAGE = ReactiveMetricsPostProcessorTest.class.getPackageName();
+
+    private SimpleMeterRegistry registry;
+    private ReactiveMetricsPostProcessor postProcessor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        postProcessor = new ReactiveMetricsPostProcessor(() -> registry, PACKAGE, PACKAGE);
+    }
+
+    @Test
+    void shouldTimeEveryUseCaseExecuteMethodOnSubscriptionWithOutcome() {
+        final SampleUseCase useCase = (SampleUseCase) postProcessor.postProcessAfterInitialization(
+                new SampleUseCase(), "sampleUseCase");
+
+        final Mono<String> pending = useCase.execute("ok");
+        assertNull(registry.find(ReactiveMetricsPostProcessor.USE_CASE_TIMER).timer());
+
+        StepVerifier.create(pending).expectNext("OK").verifyComplete();
+        StepVerifier.create(useCase.execute("")).verifyError(IllegalArgumentException.class);
+        StepVerifier.create(useCase.executePaged(2)).expectNextCount(2).verifyComplete();
+        StepVerifier.create(useCase.describeLater()).expectNext("ok").verifyComplete();
+
+        assertEquals(1, registry.get(ReactiveMetricsPostProcessor.USE_CASE_TIMER)
+                .tags("usecase", "SampleUseCase", "operation", "execute", ReactiveMetrics.OUTCOME, "success")
+                .timer().count());
+        assertEquals(1, registry.get(ReactiveMetricsPostProcessor.USE_CASE_TIMER)
+                .tags("usecase", "SampleUseCase", "operation", "execute", ReactiveMetrics.EXCEPTION,
+                        "IllegalArgumentException")
+                .timer().count());
+        assertEquals(1, registry.get(ReactiveMetricsPostProcessor.USE_CASE_TIMER)
+                .tags("operation", "executePaged", ReactiveMetrics.OUTCOME, "success").timer().count());
+        assertNull(registry.find(ReactiveMetricsPostProcessor.USE_CASE_TIMER)
+                .tags("operation", "describeLater").timer());
+    }
+
+    @Test
+    void shouldTagRepositoryQueriesByMethodAndLeaveOtherBeansAlone() {
+        final SampleRepositoryAdapter adapter = (SampleRepositoryAdapter) postProcessor
+                .postProcessAfterInitialization(new SampleRepositoryAdapter(), "sampleRepositoryAdapter");
+        final Object other = new Object();
+
+        StepVerifier.create(adapter.findAll()).expectNextCount(3).verifyComplete();
+        StepVerifier.create(adapter.findAll().take(1)).expectNextCount(1).verifyComplete();
+
+        assertEquals(1, registry.get(ReactiveMetricsPostProcessor.REPOSITORY_TIMER)
+                .tags("repository", "SampleRepository", "query", "findAll", ReactiveMetrics.OUTCOME, "success")
+                .timer().count());
+        assertEquals(1, registry.get(ReactiveMetricsPostProcessor.REPOSITORY_TIMER)
+                .tags("query", "findAll", ReactiveMetrics.OUTCOME, "cancelled").timer().count());
+        assertSame(other, postProcessor.postProcessAfterInitialization(other, "other"));
+        assertEquals(true, AopUtils.isAopProxy(adapter));
+    }
+
+    public static class SampleUseCase {
+
+        public Mono<String> execute(final String input) {
+            if (input.isEmpty()) {
+                return Mono.error(new IllegalArgumentException("vacio"));
+            }
+            return Mono.fromSupplier(input::toUpperCase);
+        }
+
+        public Flux<Integer> executePaged(final int size) {
+            return Flux.range(0, size);
+        }
+
+        public Mono<String> describeLater() {
+            return Mono.just("ok");
+        }
+    }
+
+    public static class SampleRepositoryAdapter {
+
+        public Flux<Integer> findAll() {
+            return Flux.just(1, 2, 3);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package co.edu.uco.backendvictus.infrastructure.config.r2dbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class R2dbcPoolConfigTest {
+
+    private static final Duration MAX_ACQUIRE_TIME = Duration.ofMillis(300);
+
+    private SimpleMeterRegistry registry;
+    private MeteredConnectionFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        final ConnectionFactory target = mock(ConnectionFactory.class);
+        when(target.create()).thenAnswer(invocation -> Mono.just(connection()));
+        final R2dbcPoolProperties properties = new R2dbcPoolProperties(0, 2, MAX_ACQUIRE_TIME,
+                Duration.ofMinutes(10), Duration.ofMinutes(30), Duration.ofMinutes(1), "", 256);
+
+        registry = new SimpleMeterRegistry();
+        final ConnectionPool pool = R2dbcPoolConfig.createPool(target, properties);
+        factory = new MeteredConnectionFactory(pool, R2dbcPoolConfig.POOL_NAME, registry);
+        // Same binding the actuator applies to the ConnectionFactory bean: through Wrapped#unwrap.
+        new ConnectionPoolMetrics((ConnectionPool) factory.unwrap(), R2dbcPoolConfig.POOL_NAME, Tags.empty())
+                .bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        factory.dispose();
+    }
+
+    @Test
+    void shouldQueueAcquiresWhenSaturatedAndHandOverReleasedConnections() throws Exception {
+        final Connection first = acquire();
+        final Connection second = acquire();
+        assertEquals(2.0, gauge("r2dbc.pool.acquired"));
+
+        final CompletableFuture<Connection> waiting = Mono.<Connection>from(factory.create()).toFuture();
+        waitUntil(() -> gauge("r2dbc.pool.pending") == 1.0);
+        assertFalse(waiting.isDone());
+
+        Mono.from(first.close()).block();
+        final Connection handedOver = waiting.get();
+        assertEquals(0.0, gauge("r2dbc.pool.pending"));
+        assertEquals(2.0, gauge("r2dbc.pool.acquired"));
+
+        assertEquals(3, registry.get(MeteredConnectionFactory.ACQUIRE_TIMER).tag("outcome", "success").timer()
+                .count());
+        Mono.from(second.close()).block();
+        Mono.from(handedOver.close()).block();
+    }
+
+    @Test
+    void shouldFailAcquireAfterMaxAcquireTimeAndRecordIt() {
+        acquire();
+        acquire();
+
+        StepVerifier.create(factory.create())
+                .expectErrorSatisfies(error -> assertTrue(error.getMessage().contains("timed out"),
+                        error.getMessage()))
+                .verify(Duration.ofSeconds(5));
+
+        final double waited = registry.get(MeteredConnectionFactory.ACQUIRE_TIMER).tag("outcome", "error").timer()
+                .max(TimeUnit.MILLISECONDS);
+        assertTrue(waited >= MAX_ACQUIRE_TIME.toMillis(), "acquire failed after " + waited + " ms");
+        assertEquals(0.0, gauge("r2dbc.pool.pending"));
+    }
+
+    private Connection acquire() {
+        return Mono.from(factory.create()).block(Duration.ofSeconds(5));
+    }
+
+    private double gauge(final String name) {
+        return registry.get(name).tag("name", R2dbcPoolConfig.POOL_NAME).gauge().value();
+    }
+
+    private static Connection connection() {
+        final Connection connection = mock(Connection.class);
+        when(connection.validate(any())).thenReturn(Mono.just(true));
+        when(connection.isAutoCommit()).thenReturn(true);
+        when(connection.close()).thenReturn(Mono.empty());
+        return connection;
+    }
+
+    private static void waitUntil(final BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("La condición no se cumplió a tiempo");
+    }
+}
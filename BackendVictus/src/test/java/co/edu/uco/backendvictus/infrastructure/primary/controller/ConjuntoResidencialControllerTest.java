@@ -0,0 +1,96 @@
+package co.edu.uco.backendvictus.infrastructure.primary.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import co.edu.uco.backendvictus.application.dto.common.PageResponse;
+import co.edu.uco.backendvictus.application.dto.conjunto.ConjuntoResponse;
+import co.edu.uco.backendvictus.application.port.out.conjunto.ConjuntoEventoPublisher;
+import co.edu.uco.backendvictus.application.usecase.conjunto.CreateConjuntoUseCase;
+import co.edu.uco.backendvictus.application.usecase.conjunto.DeleteConjuntoUseCase;
+import co.edu.uco.backendvictus.application.usecase.conjunto.ListConjuntosUseCase;
+import co.edu.uco.backendvictus.application.usecase.conjunto.UpdateConjuntoUseCase;
+import co.edu.uco.backendvictus.application.usecase.vivienda.ListViviendaUseCase;
+import reactor.core.publisher.Mono;
+
+class ConjuntoResidencialControllerTest {
+
+    private static final String BASE_PATH = "/uco-challenge/api/v1/conjuntos";
+
+    private ListConjuntosUseCase listConjuntosUseCase;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        listConjuntosUseCase = mock(ListConjuntosUseCase.class);
+        final Mono<PageResponse<ConjuntoResponse>> empty = Mono.just(PageResponse.of(List.of(), 0, 0, 20));
+        when(listConjuntosUseCase.executeFiltered(any(), any(), any(), anyInt(), anyInt())).thenReturn(empty);
+        when(listConjuntosUseCase.executeKeyset(any(), anyInt())).thenReturn(empty);
+        when(listConjuntosUseCase.executePaged(anyInt(), anyInt())).thenReturn(empty);
+        when(listConjuntosUseCase.executeSearch(any(), anyInt(), anyInt())).thenReturn(empty);
+
+        client = WebTestClient.bindToController(new ConjuntoResidencialController(mock(CreateConjuntoUseCase.class),
+                listConjuntosUseCase, mock(UpdateConjuntoUseCase.class), mock(DeleteConjuntoUseCase.class),
+                mock(ConjuntoEventoPublisher.class), mock(ListViviendaUseCase.class))).build();
+    }
+
+    @Test
+    void shouldRouteFiltersToTheFilteredListingWithSanitizedNombre() {
+        final UUID departamentoId = UUID.randomUUID();
+        final UUID ciudadId = UUID.randomUUID();
+
+        get("?departamentoId=" + departamentoId + "&ciudadId=" + ciudadId + "&nombre=  Torre   Álamo  &page=2&size=5");
+
+        verify(listConjuntosUseCase).executeFiltered(departamentoId, ciudadId, "Torre Alamo", 2, 5);
+        verifyNoMoreInteractions(listConjuntosUseCase);
+    }
+
+    @Test
+    void shouldTreatASingleFilterAsFilteredListing() {
+        final UUID ciudadId = UUID.randomUUID();
+
+        get("?ciudadId=" + ciudadId + "&cursor=");
+
+        verify(listConjuntosUseCase).executeFiltered(null, ciudadId, null, 0, 20);
+        verifyNoMoreInteractions(listConjuntosUseCase);
+    }
+
+    @Test
+    void shouldUseKeysetModeWhenOnlyACursorIsGiven() {
+        get("?cursor=&size=50");
+
+        verify(listConjuntosUseCase).executeKeyset("", 50);
+        verifyNoMoreInteractions(listConjuntosUseCase);
+    }
+
+    @Test
+    void shouldFallBackToOffsetPagingWhenNombreIsBlank() {
+        get("?nombre=   &page=3");
+
+        verify(listConjuntosUseCase).executePaged(3, 20);
+        verifyNoMoreInteractions(listConjuntosUseCase);
+    }
+
+    @Test
+    void shouldSanitizeSearchTermBeforeSearching() {
+        get("/search?q=  <Torre>   Ñandú_1  &page=1&size=15");
+
+        verify(listConjuntosUseCase).executeSearch("Torre Nandu_1", 1, 15);
+        verifyNoMoreInteractions(listConjuntosUseCase);
+    }
+
+    private void get(final String query) {
+        client.get().uri(BASE_PATH + query).exchange().expectStatus().isOk();
+    }
+}
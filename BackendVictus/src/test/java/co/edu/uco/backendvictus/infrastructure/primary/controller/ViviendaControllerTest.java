@@ -0,0 +1,53 @@
+package co.edu.uco.backendvictus.infrastructure.primary.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import co.edu.uco.backendvictus.application.dto.vivienda.ViviendaBulkResponse;
+import co.edu.uco.backendvictus.application.dto.vivienda.ViviendaCreateRequest;
+import co.edu.uco.backendvictus.application.usecase.vivienda.ChangeViviendaEstadoUseCase;
+import co.edu.uco.backendvictus.application.usecase.vivienda.CreateViviendaUseCase;
+import co.edu.uco.backendvictus.application.usecase.vivienda.DeleteViviendaUseCase;
+import co.edu.uco.backendvictus.application.usecase.vivienda.ImportViviendasUseCase;
+import co.edu.uco.backendvictus.application.usecase.vivienda.ListViviendaUseCase;
+import co.edu.uco.backendvictus.application.usecase.vivienda.UpdateViviendaUseCase;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ViviendaControllerTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStopReadingBulkBodyOneRowPastTheLimit() {
+        final ImportViviendasUseCase importUseCase = mock(ImportViviendasUseCase.class);
+        final AtomicInteger received = new AtomicInteger();
+        when(importUseCase.execute(any())).thenAnswer(invocation -> {
+            received.set(((List<ViviendaCreateRequest>) invocation.getArgument(0)).size());
+            return Mono.just(new ViviendaBulkResponse(0, 0, 0, List.of()));
+        });
+        final WebTestClient client = WebTestClient.bindToController(new ViviendaController(
+                mock(CreateViviendaUseCase.class), mock(ListViviendaUseCase.class), mock(UpdateViviendaUseCase.class),
+                mock(ChangeViviendaEstadoUseCase.class), mock(DeleteViviendaUseCase.class), importUseCase)).build();
+        final UUID conjuntoId = UUID.randomUUID();
+        final Flux<String> body = Flux.range(0, ImportViviendasUseCase.MAX_ROWS * 2)
+                .map(i -> "{\"conjuntoId\":\"" + conjuntoId + "\",\"numero\":\"" + i + "\",\"tipo\":\"Casa\"}\n");
+
+        client.post().uri("/uco-challenge/api/v1/viviendas/bulk")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body, String.class)
+                .exchange()
+                .expectStatus().isOk();
+
+        assertEquals(ImportViviendasUseCase.MAX_ROWS + 1, received.get());
+    }
+}
@@ -0,0 +1,72 @@
+package co.edu.uco.backendvictus.infrastructure.secondary.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import co.edu.uco.backendvictus.domain.model.Ciudad;
+import co.edu.uco.backendvictus.domain.model.Departamento;
+import co.edu.uco.backendvictus.domain.model.Pais;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class GeografiaCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private GeografiaCache cache;
+    private Pais pais;
+    private Departamento departamento;
+    private Ciudad ciudad;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        cache = new GeografiaCache(100, Duration.ofMinutes(5), registry);
+        pais = Pais.create(UUID.randomUUID(), "Colombia");
+        departamento = Departamento.create(UUID.randomUUID(), "Antioquia", pais);
+        ciudad = Ciudad.create(UUID.randomUUID(), "Medellin", departamento);
+    }
+
+    @Test
+    void shouldLoadOnceAndServeLaterReadsFromCache() {
+        final AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(cache.ciudad(ciudad.getId(), id -> {
+                loads.incrementAndGet();
+                return Mono.just(ciudad);
+            }))
+                    .expectNext(ciudad)
+                    .verifyComplete();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(2.0, registry.get("cache.gets").tag("cache", "geografia.ciudad").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "geografia.ciudad").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void shouldEvictDependentCiudadesWhenDepartamentoChanges() {
+        final AtomicInteger loads = new AtomicInteger();
+        cache.put(ciudad);
+
+        StepVerifier.create(cache.evictDepartamento(departamento.getId())).verifyComplete();
+
+        StepVerifier.create(cache.ciudad(ciudad.getId(), id -> {
+            loads.incrementAndGet();
+            return Mono.just(ciudad);
+        }))
+                .expectNext(ciudad)
+                .verifyComplete();
+
+        assertEquals(1, loads.get());
+    }
+}
@@ -1,7 +1,9 @@
 package co.edu.uco.backendvictus.infrastructure.secondary.client;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,6 +11,13 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.test.StepVerifier;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MessageClientTest {
 
@@ -78,4 +87,128 @@ class MessageClientTest {
         StepVerifier.create(messageClient.getMessage("any.key"))
                 .verifyComplete();
     }
+
+    @Test
+    void shouldServeWarmedAndStreamedMessagesFromCacheWhenServiceIsDown() throws Exception {
+        server.enqueue(new MockResponse()
+                .setBody("[{\"key\":\"validation.general\",\"value\":\"Dato invalido\"}]")
+                .addHeader("Content-Type", "application/json"));
+        server.enqueue(new MockResponse()
+                .setBody("event: UPDATED\ndata: {\"key\":\"domain.general.error\",\"technicalMessage\":\"Tech\","
+                        + "\"clientMessage\":\"Cliente\"}\n\n")
+                .addHeader("Content-Type", "text/event-stream"));
+
+        final String baseUrl = server.url("/api/v1/messages").toString();
+        final WebClient client = WebClient.builder().baseUrl(baseUrl).build();
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final MessageClient messageClient = new MessageClient(client, client, registry);
+
+        messageClient.start();
+        try {
+            waitForCacheSize(registry, 2);
+            server.shutdown();
+
+            StepVerifier.create(messageClient.getMessage("validation.general"))
+                    .expectNextMatches(res -> res.clientMessage().equals("Dato invalido"))
+                    .verifyComplete();
+            StepVerifier.create(messageClient.getMessage("domain.general.error"))
+                    .expectNextMatches(res -> res.clientMessage().equals("Cliente")
+                            && res.technicalMessage().equals("Tech"))
+                    .verifyComplete();
+            assertEquals(2.0, registry.get("message.client.cache").tag("result", "hit").counter().count());
+        } finally {
+            messageClient.stop();
+        }
+    }
+
+    @Test
+    void shouldResumeStreamFromLastEventIdAndReloadOnlyOnResync() throws Exception {
+        server.enqueue(new MockResponse()
+                .setBody("[{\"key\":\"validation.general\",\"value\":\"Dato invalido\"}]")
+                .addHeader("Content-Type", "application/json"));
+        server.enqueue(new MockResponse()
+                .setBody("id: run-1\nevent: CREATED\ndata: {\"key\":\"domain.general.error\",\"value\":\"Error\"}\n\n")
+                .addHeader("Content-Type", "text/event-stream"));
+        server.enqueue(new MockResponse()
+                .setBody("id: run-7\nevent: RESYNC\n\n")
+                .addHeader("Content-Type", "text/event-stream"));
+        server.enqueue(new MockResponse()
+                .setBody("[{\"key\":\"domain.general.error\",\"value\":\"Error recargado\"}]")
+                .addHeader("Content-Type", "application/json"));
+
+        final String baseUrl = server.url("/api/v1/messages").toString();
+        final WebClient client = WebClient.builder().baseUrl(baseUrl).build();
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final MessageClient messageClient = new MessageClient(client, client, registry);
+
+        messageClient.start();
+        try {
+            assertEquals("/api/v1/messages", server.takeRequest(5, TimeUnit.SECONDS).getPath());
+            assertNull(server.takeRequest(5, TimeUnit.SECONDS).getHeader("Last-Event-ID"));
+            final RecordedRequest resumed = server.takeRequest(5, TimeUnit.SECONDS);
+            assertEquals("/api/v1/messages/stream", resumed.getPath());
+            assertEquals("run-1", resumed.getHeader("Last-Event-ID"));
+            assertEquals("/api/v1/messages", server.takeRequest(5, TimeUnit.SECONDS).getPath());
+
+            // La recarga por RESYNC reemplaza la caché: desaparece la clave que ya no existe.
+            waitUntil(() -> registry.get("message.client.cache.size").gauge().value() == 1.0);
+            StepVerifier.create(messageClient.getMessage("domain.general.error"))
+                    .expectNextMatches(res -> res.clientMessage().equals("Error recargado"))
+                    .verifyComplete();
+        } finally {
+            messageClient.stop();
+        }
+    }
+
+    @Test
+    void shouldResolveSeveralKeysWithOneBatchRequest() throws Exception {
+        server.enqueue(new MockResponse()
+                .setBody("{\"validation.general\":{\"key\":\"validation.general\",\"value\":\"Dato invalido\"},"
+                        + "\"domain.general.error\":{\"key\":\"domain.general.error\",\"technicalMessage\":\"Tech\","
+                        + "\"clientMessage\":\"Cliente\"}}")
+                .addHeader("Content-Type", "application/json"));
+
+        final String baseUrl = server.url("/api/v1/messages").toString();
+        final WebClient client = WebClient.builder().baseUrl(baseUrl).build();
+        final MessageClient messageClient = new MessageClient(client, client, new SimpleMeterRegistry());
+
+        StepVerifier.create(messageClient.getMessages(
+                        List.of("validation.general", "domain.general.error", "no.existe")))
+                .expectNextMatches(found -> found.size() == 2
+                        && found.get("validation.general").clientMessage().equals("Dato invalido")
+                        && found.get("domain.general.error").technicalMessage().equals("Tech"))
+                .verifyComplete();
+
+        final RecordedRequest request = server.takeRequest();
+        assertEquals("POST", request.getMethod());
+        assertEquals("/api/v1/messages:batchGet", request.getPath());
+        assertTrue(request.getBody().readUtf8().contains("\"no.existe\""));
+
+        // Segunda consulta: todo sale de la caché, sin tocar el servicio.
+        StepVerifier.create(messageClient.getMessages(List.of("validation.general", "domain.general.error")))
+                .expectNextMatches(found -> found.size() == 2)
+                .verifyComplete();
+        assertEquals(1, server.getRequestCount());
+    }
+
+    private static void waitUntil(final BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("La condición no se cumplió a tiempo");
+    }
+
+    private static void waitForCacheSize(final SimpleMeterRegistry registry, final int expected)
+            throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (registry.get("message.client.cache.size").gauge().value() >= expected) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("La caché de mensajes no se sincronizó a tiempo");
+    }
 }
@@ -1,5 +1,6 @@
 package co.edu.uco.backendvictus.infrastructure.secondary.client;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import org.junit.jupiter.api.AfterEach;
@@ -9,6 +10,10 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.test.StepVerifier;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class ParameterClientTest {
 
@@ -52,5 +57,51 @@ class ParameterClientTest {
         StepVerifier.create(parameterClient.get("conjunto.max.limit"))
                 .verifyComplete();
     }
-}
 
+    @Test
+    void shouldServeTypedParametersFromSnapshotKeptFreshByStream() throws Exception {
+        server.enqueue(new MockResponse()
+                .setBody("[{\"key\":\"vivienda.max.limit\",\"value\":\"250\"},"
+                        + "{\"key\":\"client.timeout\",\"value\":\"PT2S\"},"
+                        + "{\"key\":\"obsoleto\",\"value\":\"1\"}]")
+                .addHeader("Content-Type", "application/json"));
+        server.enqueue(new MockResponse()
+                .setBody("event: UPDATED\ndata: {\"key\":\"vivienda.max.limit\",\"value\":\"300\"}\n\n"
+                        + "event: DELETED\ndata: {\"key\":\"obsoleto\"}\n\n"
+                        + "event: CREATED\ndata: {\"key\":\"retry.delay\",\"value\":\"500ms\"}\n\n")
+                .addHeader("Content-Type", "text/event-stream"));
+
+        final String baseUrl = server.url("/api/v1/parameters").toString();
+        final WebClient client = WebClient.builder().baseUrl(baseUrl).build();
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final ParameterClient parameterClient = new ParameterClient(client, client, registry);
+
+        parameterClient.start();
+        try {
+            waitFor(() -> parameterClient.getLong("vivienda.max.limit", -1L) == 300L
+                    && parameterClient.getDuration("retry.delay", null) != null);
+            server.shutdown();
+
+            assertEquals(300, parameterClient.getInt("vivienda.max.limit", -1));
+            assertEquals(Duration.ofSeconds(2), parameterClient.getDuration("client.timeout", Duration.ZERO));
+            assertEquals(Duration.ofMillis(500), parameterClient.getDuration("retry.delay", Duration.ZERO));
+            assertEquals(-1, parameterClient.getInt("obsoleto", -1));
+            assertEquals(-1, parameterClient.getInt("client.timeout", -1));
+            StepVerifier.create(parameterClient.get("vivienda.max.limit"))
+                    .expectNextMatches(res -> "300".equals(res.value()))
+                    .verifyComplete();
+        } finally {
+            parameterClient.stop();
+        }
+    }
+
+    private static void waitFor(final BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("El snapshot de parámetros no se sincronizó a tiempo");
+    }
+}
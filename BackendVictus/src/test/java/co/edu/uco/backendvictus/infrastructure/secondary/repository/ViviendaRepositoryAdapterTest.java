@@ -0,0 +1,201 @@
+package co.edu.uco.backendvictus.infrastructure.secondary.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+
+import co.edu.uco.backendvictus.crosscutting.exception.ApplicationException;
+import co.edu.uco.backendvictus.domain.model.Vivienda;
+import co.edu.uco.backendvictus.domain.model.ViviendaEstado;
+import co.edu.uco.backendvictus.domain.model.ViviendaTipo;
+import co.edu.uco.backendvictus.domain.model.conjunto.ConjuntoResidencial;
+import co.edu.uco.backendvictus.infrastructure.secondary.mapper.ConjuntoRowMapper;
+import co.edu.uco.backendvictus.infrastructure.secondary.mapper.ViviendaEntityMapper;
+import co.edu.uco.backendvictus.seeds.ViviendaFactory;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ViviendaRepositoryAdapterTest {
+
+    private static final int PAGE_SIZE = 100;
+
+    private DatabaseClient databaseClient;
+    private ViviendaR2dbcRepository r2dbcRepository;
+    private ViviendaRepositoryAdapter adapter;
+    private ConjuntoResidencial conjunto;
+
+    @BeforeEach
+    void setUp() {
+        conjunto = ViviendaFactory.buildConjunto();
+        databaseClient = mock(DatabaseClient.class);
+        r2dbcRepository = mock(ViviendaR2dbcRepository.class);
+        adapter = new ViviendaRepositoryAdapter(r2dbcRepository, new ViviendaEntityMapper(),
+                new ConjuntoRowMapper(), databaseClient);
+    }
+
+    @Test
+    void shouldHydrateAFullPageWithASingleQuery() {
+        stubQuery(buildRows(PAGE_SIZE));
+
+        StepVerifier.create(adapter.findByFilters(conjunto.getId(), ViviendaEstado.DISPONIBLE, null, null, 0,
+                PAGE_SIZE).collectList())
+                .assertNext(viviendas -> {
+                    assertEquals(PAGE_SIZE, viviendas.size());
+                    assertEquals(conjunto.getId(), viviendas.get(0).getConjunto().getId());
+                    assertEquals("Medellin", viviendas.get(0).getConjunto().getCiudad().getNombre());
+                    assertEquals("Colombia",
+                            viviendas.get(0).getConjunto().getCiudad().getDepartamento().getPais().getNombre());
+                    assertEquals("ana@uco.edu", viviendas.get(0).getConjunto().getAdministrador().getEmail());
+                })
+                .verifyComplete();
+
+        verify(databaseClient, times(1)).sql(anyString());
+        verifyNoInteractions(r2dbcRepository);
+    }
+
+    @Test
+    void shouldFindByConjuntoAndNumeroWithASingleQuery() {
+        stubQuery(buildRows(1));
+
+        StepVerifier.create(adapter.findByConjuntoAndNumero(conjunto.getId(), "A-0"))
+                .assertNext(vivienda -> assertEquals("A-0", vivienda.getNumero()))
+                .verifyComplete();
+
+        verify(databaseClient, times(1)).sql(anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldInsertInMultiRowBatches() {
+        final DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        final FetchSpec<Map<String, Object>> fetchSpec = mock(FetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.just(500L));
+
+        final List<Vivienda> viviendas = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            viviendas.add(Vivienda.create(null, "B-" + i, ViviendaTipo.CASA, ViviendaEstado.DISPONIBLE, conjunto));
+        }
+
+        StepVerifier.create(adapter.saveAll(viviendas).collectList())
+                .assertNext(saved -> {
+                    assertEquals(1200, saved.size());
+                    assertEquals("B-0", saved.get(0).getNumero());
+                    saved.forEach(vivienda -> assertEquals(true, vivienda.getId() != null));
+                })
+                .verifyComplete();
+
+        verify(databaseClient, times(3)).sql(startsWith("INSERT INTO vivienda"));
+        verifyNoInteractions(r2dbcRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldReportDuplicateNumerosRejectedByTheUniqueIndex() {
+        final DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        final FetchSpec<Map<String, Object>> fetchSpec = mock(FetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.fetch()).thenReturn(fetchSpec);
+        final DuplicateKeyException duplicate = new DuplicateKeyException("uq_vivienda_conjunto_numero");
+        when(fetchSpec.rowsUpdated()).thenReturn(Mono.error(duplicate));
+        when(r2dbcRepository.save(any())).thenReturn(Mono.error(duplicate));
+        final Vivienda vivienda = Vivienda.create(null, "C-1", ViviendaTipo.CASA, ViviendaEstado.DISPONIBLE, conjunto);
+
+        StepVerifier.create(adapter.saveAll(List.of(vivienda)))
+                .expectError(ApplicationException.class)
+                .verify();
+        StepVerifier.create(adapter.save(vivienda))
+                .expectErrorMessage("Ya existe una vivienda con ese número en el conjunto.")
+                .verify();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubQuery(final List<Row> rows) {
+        final DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyString(), any())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            final BiFunction<Row, RowMetadata, Object> mapping = invocation.getArgument(0);
+            final RowsFetchSpec<Object> fetchSpec = mock(RowsFetchSpec.class);
+            when(fetchSpec.all()).thenAnswer(call -> Flux.fromIterable(rows).map(row -> mapping.apply(row, null)));
+            when(fetchSpec.one()).thenAnswer(call -> Flux.fromIterable(rows)
+                    .map(row -> mapping.apply(row, null))
+                    .singleOrEmpty());
+            return fetchSpec;
+        });
+    }
+
+    private List<Row> buildRows(final int count) {
+        final List<Row> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Map<String, Object> values = new HashMap<>();
+            values.put("vivienda_id", UUID.randomUUID());
+            values.put("vivienda_numero", "A-" + i);
+            values.put("vivienda_tipo", ViviendaTipo.APARTAMENTO.getValue());
+            values.put("vivienda_estado", ViviendaEstado.DISPONIBLE.getValue());
+            values.put("id", conjunto.getId());
+            values.put("nombre", conjunto.getNombre());
+            values.put("direccion", conjunto.getDireccion());
+            values.put("telefono", conjunto.getTelefono());
+            values.put("ciudad_id", conjunto.getCiudad().getId());
+            values.put("nombre_ciudad", conjunto.getCiudad().getNombre());
+            values.put("departamento_id", conjunto.getCiudad().getDepartamento().getId());
+            values.put("nombre_departamento", conjunto.getCiudad().getDepartamento().getNombre());
+            values.put("pais_id", conjunto.getCiudad().getDepartamento().getPais().getId());
+            values.put("nombre_pais", conjunto.getCiudad().getDepartamento().getPais().getNombre());
+            values.put("administrador_id", conjunto.getAdministrador().getId());
+            values.put("primer_nombre", conjunto.getAdministrador().getPrimerNombre());
+            values.put("segundo_nombre", conjunto.getAdministrador().getSegundoNombres());
+            values.put("primer_apellido", conjunto.getAdministrador().getPrimerApellido());
+            values.put("segundo_apellido", conjunto.getAdministrador().getSegundoApellido());
+            values.put("correo", conjunto.getAdministrador().getEmail());
+            values.put("administrador_telefono", conjunto.getAdministrador().getTelefono());
+            rows.add(new MapRow(values));
+        }
+        return rows;
+    }
+
+    private record MapRow(Map<String, Object> values) implements Row {
+
+        @Override
+        public RowMetadata getMetadata() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T get(final int index, final Class<T> type) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T get(final String name, final Class<T> type) {
+            return type.cast(values.get(name));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package co.edu.uco.backendvictus.infrastructure.secondary.repository.conjunto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import co.edu.uco.backendvictus.infrastructure.secondary.repository.conjunto.ConjuntoQueries.NamedQuery;
+
+class ConjuntoQueriesTest {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$(\\d+)");
+    private static final int ALL_FILTERS = ConjuntoQueries.FILTER_DEPARTAMENTO | ConjuntoQueries.FILTER_CIUDAD
+            | ConjuntoQueries.FILTER_NOMBRE;
+
+    @Test
+    void filteredStatementsAreBuiltOnceWithConsecutivePlaceholders() {
+        for (int filters = 0; filters <= ALL_FILTERS; filters++) {
+            final NamedQuery page = ConjuntoQueries.filtered(filters);
+            final NamedQuery count = ConjuntoQueries.countFiltered(filters);
+
+            assertSame(page, ConjuntoQueries.filtered(filters));
+            assertSame(count, ConjuntoQueries.countFiltered(filters));
+            assertEquals(Integer.bitCount(filters) + 2, highestPlaceholder(page.sql()));
+            assertEquals(Integer.bitCount(filters), highestPlaceholder(count.sql()));
+        }
+        assertTrue(ConjuntoQueries.filtered(ALL_FILTERS).sql()
+                .contains("ci.departamento_id = $1 AND ci.id = $2 AND LOWER(c.nombre) LIKE $3"));
+        assertEquals("conjunto.findFiltered.departamento+ciudad+nombre", ConjuntoQueries.filtered(ALL_FILTERS).name());
+        assertEquals("conjunto.countFiltered.ciudad",
+                ConjuntoQueries.countFiltered(ConjuntoQueries.FILTER_CIUDAD).name());
+        assertEquals("conjunto.countFiltered.none", ConjuntoQueries.countFiltered(0).name());
+    }
+
+    @Test
+    void catalogueHoldsOneStatementPerTextAndNameWithoutNamedParameters() {
+        final List<NamedQuery> queries = ConjuntoQueries.all();
+        final Set<String> texts = new HashSet<>();
+        final Set<String> names = new HashSet<>();
+
+        for (final NamedQuery query : queries) {
+            assertTrue(texts.add(query.sql()), query.name());
+            assertTrue(names.add(query.name()), query.name());
+            assertFalse(query.sql().matches("(?s).*[^:]:[a-zA-Z].*"), query.name());
+        }
+        assertEquals(22, queries.size());
+    }
+
+    private static int highestPlaceholder(final String sql) {
+        final Matcher matcher = PLACEHOLDER.matcher(sql);
+        int highest = 0;
+        while (matcher.find()) {
+            highest = Math.max(highest, Integer.parseInt(matcher.group(1)));
+        }
+        return highest;
+    }
+}
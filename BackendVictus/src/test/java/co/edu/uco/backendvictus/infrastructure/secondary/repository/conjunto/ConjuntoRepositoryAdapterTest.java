@@ -0,0 +1,67 @@
+package co.edu.uco.backendvictus.infrastructure.secondary.repository.conjunto;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+
+import co.edu.uco.backendvictus.domain.port.AdministradorRepository;
+import co.edu.uco.backendvictus.domain.port.CiudadRepository;
+import co.edu.uco.backendvictus.infrastructure.secondary.mapper.ConjuntoResidencialEntityMapper;
+import co.edu.uco.backendvictus.infrastructure.secondary.mapper.ConjuntoRowMapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ConjuntoRepositoryAdapterTest {
+
+    private DatabaseClient databaseClient;
+    private DatabaseClient.GenericExecuteSpec spec;
+    private ConjuntoRepositoryAdapter adapter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        databaseClient = mock(DatabaseClient.class);
+        spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        final RowsFetchSpec<Object> fetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(any(String.class))).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(fetchSpec);
+        when(fetchSpec.all()).thenReturn(Flux.empty());
+        when(fetchSpec.one()).thenReturn(Mono.empty());
+        adapter = new ConjuntoRepositoryAdapter(mock(ConjuntoR2dbcRepository.class),
+                mock(ConjuntoResidencialEntityMapper.class), mock(CiudadRepository.class),
+                mock(AdministradorRepository.class), databaseClient, new ConjuntoRowMapper());
+    }
+
+    @Test
+    void shouldEscapeLikeWildcardsInSearchPattern() {
+        StepVerifier.create(adapter.searchByNombre("50%_Off\\", 1, 10)).verifyComplete();
+
+        verify(databaseClient).sql(ConjuntoQueries.SEARCH.sql());
+        verify(spec).bind(0, "50%_off\\");
+        verify(spec).bind(1, "%50\\%\\_off\\\\%");
+        verify(spec).bind(2, 10);
+        verify(spec).bind(3, 10L);
+    }
+
+    @Test
+    void shouldEscapeLikeWildcardsInSearchCount() {
+        StepVerifier.create(adapter.countSearchByNombre("a_b"))
+                .expectNext(0L)
+                .verifyComplete();
+
+        verify(databaseClient).sql(ConjuntoQueries.COUNT_SEARCH.sql());
+        verify(spec).bind(0, "a_b");
+        verify(spec).bind(1, "%a\\_b%");
+    }
+}
@@ -13,6 +13,9 @@ import co.edu.uco.backendvictus.domain.model.ViviendaTipo;
 
 public final class ViviendaFactory {
 
+    private static final ViviendaTipo[] TIPOS = ViviendaTipo.values();
+    private static final ViviendaEstado[] ESTADOS = ViviendaEstado.values();
+
     private ViviendaFactory() {
     }
 
@@ -30,4 +33,41 @@ public final class ViviendaFactory {
         return Vivienda.create(UUID.randomUUID(), numero, ViviendaTipo.APARTAMENTO, ViviendaEstado.DISPONIBLE,
                 conjunto);
     }
+
+    public static Pais buildPais() {
+        return Pais.create(UUID.randomUUID(), "Colombia");
+    }
+
+    public static Departamento buildDepartamento(final Pais pais, final int index) {
+        return Departamento.create(UUID.randomUUID(), "Departamento " + index, pais);
+    }
+
+    public static Ciudad buildCiudad(final Departamento departamento, final int index) {
+        return Ciudad.create(UUID.randomUUID(), "Ciudad " + index, departamento);
+    }
+
+    /**
+     * Builds the {@code index}-th administrator; correo and telefono are unique per index.
+     */
+    public static Administrador buildAdministrador(final int index) {
+        return Administrador.create(UUID.randomUUID(), "Admin", null, "Carga" + index, null,
+                "admin" + index + "@uco.edu", String.valueOf(3_100_000_000L + index));
+    }
+
+    /**
+     * Builds the {@code index}-th residential complex; nombre and telefono are unique per index.
+     */
+    public static ConjuntoResidencial buildConjunto(final Ciudad ciudad, final Administrador administrador,
+            final int index) {
+        return ConjuntoResidencial.create(UUID.randomUUID(), "Conjunto " + index, "Calle " + index + " #10",
+                ciudad, administrador, String.valueOf(6_000_000_000L + index));
+    }
+
+    /**
+     * Builds a housing unit whose tipo and estado rotate with {@code index}, so filters match a fraction of rows.
+     */
+    public static Vivienda buildVivienda(final ConjuntoResidencial conjunto, final int index) {
+        return Vivienda.create(UUID.randomUUID(), String.valueOf(100 + index), TIPOS[index % TIPOS.length],
+                ESTADOS[index % ESTADOS.length], conjunto);
+    }
 }
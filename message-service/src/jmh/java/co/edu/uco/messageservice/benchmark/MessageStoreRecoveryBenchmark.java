@@ -0,0 +1,95 @@
+package co.edu.uco.messageservice.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import co.edu.uco.messageservice.catalog.CatalogEventType;
+import co.edu.uco.messageservice.catalog.Message;
+import co.edu.uco.messageservice.catalog.MessageChange;
+import co.edu.uco.messageservice.catalog.storage.FileMessageStore;
+
+/**
+ * Tiempo de arranque del catálogo con 100k claves: recuperación desde un snapshot
+ * compactado frente a reproducir el registro de cambios completo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MessageStoreRecoveryBenchmark {
+
+    private static final int KEYS = 100_000;
+
+    private Path snapshotDirectory;
+    private Path logDirectory;
+
+    @Setup
+    public void setUp() throws IOException {
+        snapshotDirectory = Files.createTempDirectory("message-store-snapshot");
+        logDirectory = Files.createTempDirectory("message-store-log");
+        populate(snapshotDirectory);
+        populate(logDirectory);
+        try (FileMessageStore store = new FileMessageStore(snapshotDirectory, false, Integer.MAX_VALUE)) {
+            store.compact();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        delete(snapshotDirectory);
+        delete(logDirectory);
+    }
+
+    @Benchmark
+    public Map<String, MessageChange> recoverFromSnapshot() {
+        return recover(snapshotDirectory);
+    }
+
+    @Benchmark
+    public Map<String, MessageChange> recoverFromLog() {
+        return recover(logDirectory);
+    }
+
+    private static Map<String, MessageChange> recover(Path directory) {
+        try (FileMessageStore store = new FileMessageStore(directory, false, Integer.MAX_VALUE)) {
+            return store.load();
+        }
+    }
+
+    private static void populate(Path directory) {
+        try (FileMessageStore store = new FileMessageStore(directory, false, Integer.MAX_VALUE)) {
+            store.load();
+            for (int i = 0; i < KEYS; i++) {
+                store.append(CatalogEventType.CREATED, new Message("domain.benchmark.key." + i,
+                        "Technical message " + i + ".", "Mensaje de negocio número " + i + " para el cliente."));
+            }
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
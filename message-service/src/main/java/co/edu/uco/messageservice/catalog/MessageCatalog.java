@@ -1,17 +1,27 @@
 package co.edu.uco.messageservice.catalog;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Catálogo en memoria que expone mensajes de negocio relacionados con el ciclo
  * de vida de los conjuntos residenciales. Los mensajes son consumidos por otros
  * microservicios para mantener consistencia textual en notificaciones y
  * respuestas HTTP.
+ *
+ * <p>El contenido vigente es un mapa inmutable que cada escritura reemplaza por
+ * una copia modificada (copy-on-write). Las lecturas, mucho más frecuentes que
+ * las escrituras, no toman cerrojos ni copian: comparten el mismo mapa y las
+ * mismas instancias de {@link Message}, y la identidad del mapa cambia si y
+ * sólo si cambió el catálogo.</p>
  */
 public final class MessageCatalog {
 
-    private static final Map<String, Message> MESSAGES = new ConcurrentHashMap<>();
+    private static final Map<String, Message> SEEDS = new LinkedHashMap<>();
+
+    private static volatile Map<String, Message> messages;
 
     static {
         // Excepciones generales orientadas a conjunto residencial
@@ -83,6 +93,8 @@ public final class MessageCatalog {
         register("request.payload.invalid.fields",
                 "Los campos {fields} deben tener un formato válido (UUID si aplica).");
         register("request.payload.invalid.technical", "INVALID_CONJUNTO_REQUEST_PAYLOAD");
+
+        messages = Collections.unmodifiableMap(SEEDS);
     }
 
     private MessageCatalog() {
@@ -90,26 +102,53 @@ public final class MessageCatalog {
     }
 
     public static Message getMessageValue(String key) {
-        return MESSAGES.get(key);
+        return messages.get(key);
+    }
+
+    public static synchronized void synchronizeMessageValue(Message message) {
+        Map<String, Message> next = new LinkedHashMap<>(messages);
+        next.put(message.key(), message);
+        messages = Collections.unmodifiableMap(next);
     }
 
-    public static void synchronizeMessageValue(Message message) {
-        register(message.getKey(), message.getValue());
+    /**
+     * Reinstala de una sola vez los cambios recuperados del almacenamiento tal
+     * como fueron persistidos, con una única copia del catálogo.
+     */
+    public static synchronized void restoreMessages(Collection<MessageChange> changes) {
+        Map<String, Message> next = new LinkedHashMap<>(messages);
+        for (MessageChange change : changes) {
+            if (change.type() == CatalogEventType.DELETED) {
+                next.remove(change.payload().key());
+            } else {
+                next.put(change.payload().key(), change.payload());
+            }
+        }
+        messages = Collections.unmodifiableMap(next);
     }
 
-    public static Message removeMessage(String key) {
-        return MESSAGES.remove(key);
+    public static synchronized Message removeMessage(String key) {
+        Message current = messages.get(key);
+        if (current != null) {
+            Map<String, Message> next = new LinkedHashMap<>(messages);
+            next.remove(key);
+            messages = Collections.unmodifiableMap(next);
+        }
+        return current;
     }
 
+    /**
+     * Mapa inmutable con el contenido vigente del catálogo.
+     */
     public static Map<String, Message> getAllMessages() {
-        return MESSAGES;
+        return messages;
     }
 
     private static void register(final String key, final String value) {
-        MESSAGES.put(key, new Message(key, value));
+        SEEDS.put(key, new Message(key, value));
     }
 
     private static void register(final String key, final String technicalMessage, final String clientMessage) {
-        MESSAGES.put(key, new Message(key, technicalMessage, clientMessage));
+        SEEDS.put(key, new Message(key, technicalMessage, clientMessage));
     }
 }
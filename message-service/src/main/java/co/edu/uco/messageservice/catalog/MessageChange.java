@@ -1,7 +1,10 @@
 package co.edu.uco.messageservice.catalog;
 
 /**
- * Evento emitido cuando un mensaje se crea, actualiza o elimina.
+ * Evento emitido cuando un mensaje se crea, actualiza o elimina. La secuencia
+ * crece de uno en uno con cada cambio publicado desde el arranque del servicio
+ * y permite a un suscriptor reanudar el stream donde lo dejó; los cambios
+ * recuperados del almacenamiento no se publican y llevan secuencia {@code 0}.
  */
-public record MessageChange(CatalogEventType type, Message payload) {
+public record MessageChange(long sequence, CatalogEventType type, Message payload) {
 }
@@ -1,68 +1,211 @@
 package co.edu.uco.messageservice.catalog;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import co.edu.uco.messageservice.catalog.storage.MessageStore;
+import jakarta.annotation.PostConstruct;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Catálogo reactivo que delega en el catálogo estático {@link MessageCatalog}
- * como única fuente de verdad, manteniendo un canal de eventos para notificar
- * cambios.
+ * como única fuente de verdad para las lecturas, manteniendo un canal de eventos
+ * para notificar cambios. Cada escritura se registra primero en el
+ * {@link MessageStore} y sólo después se publica en memoria, de modo que lo que
+ * un cliente llegó a ver sobrevive a un reinicio. Los mensajes son inmutables:
+ * lecturas, escrituras y eventos comparten las mismas instancias sin copiarlas.
+ *
+ * <p>Los cambios publicados llevan una secuencia consecutiva y los últimos
+ * {@code catalog.stream.history-size} se conservan en un buffer circular, de
+ * modo que un suscriptor que se reconecta recibe exactamente lo que se perdió
+ * o, si ya no está disponible, un evento {@link CatalogEventType#RESYNC}.</p>
  */
 @Component
 public class ReactiveMessageCatalog {
 
-    private final Sinks.Many<MessageChange> sink = Sinks.many().replay().latest();
-    private final Flux<MessageChange> changeStream = sink.asFlux();
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveMessageCatalog.class);
+
+    // Identifica esta ejecución: una secuencia de un arranque anterior no es comparable con la actual.
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Flux<MessageChange> changeStream;
+    private final SerializedChangeEmitter<MessageChange> emitter;
+    private final MessageStore store;
+    private final int historySize;
+    private final Object writeLock = new Object();
+    private volatile long sequence;
+
+    public ReactiveMessageCatalog(MessageStore store,
+            @Value("${catalog.stream.history-size:1024}") int historySize) {
+        this.store = store;
+        this.historySize = historySize;
+        Sinks.Many<MessageChange> sink = Sinks.many().replay().limit(historySize);
+        this.changeStream = sink.asFlux();
+        this.emitter = new SerializedChangeEmitter<>(sink);
+    }
 
-    public ReactiveMessageCatalog() {
-        // Sin carga de defaults aquí; los valores provienen de MessageCatalog
+    /**
+     * Aplica sobre los mensajes semilla los cambios persistidos en ejecuciones anteriores.
+     */
+    @PostConstruct
+    void recover() {
+        long start = System.nanoTime();
+        Map<String, MessageChange> persisted = store.load();
+        MessageCatalog.restoreMessages(persisted.values());
+        LOGGER.info("Catálogo de mensajes recuperado: {} cambios aplicados en {} ms", persisted.size(),
+                (System.nanoTime() - start) / 1_000_000);
     }
 
     public Flux<Message> findAll() {
-        return Flux.defer(() -> Flux.fromIterable(MessageCatalog.getAllMessages().values())
-                .map(this::copyOf));
+        return Flux.defer(() -> Flux.fromIterable(MessageCatalog.getAllMessages().values()));
+    }
+
+    /**
+     * Contenido vigente del catálogo como mapa inmutable. Su identidad cambia
+     * con cada escritura, por lo que sirve para invalidar vistas derivadas.
+     */
+    public Map<String, Message> snapshot() {
+        return MessageCatalog.getAllMessages();
     }
 
     public Mono<Message> findByKey(String key) {
-        return Mono.defer(() -> Mono.justOrEmpty(MessageCatalog.getMessageValue(key))
-                .map(this::copyOf));
+        return Mono.defer(() -> Mono.justOrEmpty(MessageCatalog.getMessageValue(key)));
     }
 
-    public Mono<Message> save(Message message) {
+    public Mono<Map<String, Message>> findByKeys(Collection<String> keys) {
         return Mono.fromSupplier(() -> {
-            Message sanitized = copyOf(message);
-            CatalogEventType type = MessageCatalog.getMessageValue(sanitized.getKey()) != null
-                    ? CatalogEventType.UPDATED
-                    : CatalogEventType.CREATED;
-            MessageCatalog.synchronizeMessageValue(sanitized);
-            emit(type, sanitized);
-            return copyOf(sanitized);
+            Map<String, Message> found = new LinkedHashMap<>();
+            for (String key : keys) {
+                Message message = MessageCatalog.getMessageValue(key);
+                if (message != null) {
+                    found.put(key, message);
+                }
+            }
+            return found;
         });
     }
 
+    public Mono<Message> save(Message message) {
+        return Mono.fromSupplier(() -> {
+            synchronized (writeLock) {
+                CatalogEventType type = MessageCatalog.getMessageValue(message.key()) != null
+                        ? CatalogEventType.UPDATED
+                        : CatalogEventType.CREATED;
+                store.append(type, message);
+                MessageCatalog.synchronizeMessageValue(message);
+                enqueue(type, message);
+                compactIfNeeded();
+            }
+            emitter.drain();
+            return message;
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
     public Mono<Message> remove(String key) {
-        return Mono.defer(() -> {
-            Message removed = MessageCatalog.removeMessage(key);
-            if (removed == null) {
-                return Mono.empty();
+        return Mono.fromCallable(() -> {
+            Message current;
+            synchronized (writeLock) {
+                current = MessageCatalog.getMessageValue(key);
+                if (current == null) {
+                    return null;
+                }
+                store.append(CatalogEventType.DELETED, current);
+                MessageCatalog.removeMessage(key);
+                enqueue(CatalogEventType.DELETED, current);
+                compactIfNeeded();
             }
-            emit(CatalogEventType.DELETED, removed);
-            return Mono.just(copyOf(removed));
-        });
+            emitter.drain();
+            return current;
+        }).subscribeOn(Schedulers.boundedElastic());
     }
 
     public Flux<MessageChange> changes() {
         return changeStream;
     }
 
-    private void emit(CatalogEventType type, Message message) {
-        sink.emitNext(new MessageChange(type, copyOf(message)), Sinks.EmitFailureHandler.FAIL_FAST);
+    /**
+     * Cambios posteriores al evento indicado por {@code lastEventId} (el {@code id}
+     * SSE recibido por última vez) seguidos de los cambios en vivo. Sin
+     * identificador sólo se entregan los cambios futuros. Si el identificador
+     * pertenece a otra ejecución o es más antiguo que el buffer, primero se emite
+     * un {@link CatalogEventType#RESYNC}.
+     */
+    public Flux<MessageChange> changesAfter(String lastEventId) {
+        return Flux.defer(() -> {
+            long current = sequence;
+            if (lastEventId == null || lastEventId.isBlank()) {
+                return changesAfterSequence(current);
+            }
+            long resumeFrom = resumePoint(lastEventId, current);
+            if (resumeFrom < 0) {
+                return resyncFrom(current);
+            }
+            // Entre leer la secuencia y suscribirse pueden llegar más cambios: si el primero
+            // recibido no es el siguiente esperado, el buffer ya descartó alguno.
+            return changesAfterSequence(resumeFrom)
+                    .switchOnFirst((first, changes) -> first.hasValue()
+                            && first.get().sequence() > resumeFrom + 1
+                            ? Flux.concat(Mono.just(resync(first.get().sequence() - 1)), changes)
+                            : changes);
+        });
+    }
+
+    /**
+     * Identificador SSE de un cambio: {@code <ejecución>-<secuencia>}.
+     */
+    public String eventId(MessageChange change) {
+        return epoch + "-" + change.sequence();
+    }
+
+    // El cambio ya está registrado y aplicado: un fallo al compactar no debe hacer fallar la escritura.
+    private void compactIfNeeded() {
+        if (!store.needsCompaction()) {
+            return;
+        }
+        try {
+            store.compact();
+        } catch (RuntimeException exception) {
+            LOGGER.warn("No fue posible compactar el catálogo de mensajes; se reintentará en la próxima escritura",
+                    exception);
+        }
+    }
+
+    private Flux<MessageChange> changesAfterSequence(long after) {
+        return changeStream.filter(change -> change.sequence() > after);
+    }
+
+    private Flux<MessageChange> resyncFrom(long current) {
+        return Flux.concat(Mono.just(resync(current)), changesAfterSequence(current));
+    }
+
+    private MessageChange resync(long current) {
+        return new MessageChange(current, CatalogEventType.RESYNC, null);
+    }
+
+    private long resumePoint(String lastEventId, long current) {
+        int separator = lastEventId.lastIndexOf('-');
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return -1;
+        }
+        try {
+            long lastSequence = Long.parseLong(lastEventId.substring(separator + 1));
+            return lastSequence > current || lastSequence < current - historySize ? -1 : lastSequence;
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
     }
 
-    private Message copyOf(Message message) {
-        return new Message(message.getKey(), message.getValue());
+    // Se invoca bajo writeLock para que secuencia y orden de la cola coincidan; la emisión ocurre fuera del cerrojo.
+    private void enqueue(CatalogEventType type, Message message) {
+        sequence++;
+        emitter.enqueue(new MessageChange(sequence, type, message));
     }
 }
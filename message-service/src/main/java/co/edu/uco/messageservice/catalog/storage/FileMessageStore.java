@@ -0,0 +1,326 @@
+package co.edu.uco.messageservice.catalog.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import co.edu.uco.messageservice.catalog.CatalogEventType;
+import co.edu.uco.messageservice.catalog.Message;
+import co.edu.uco.messageservice.catalog.MessageChange;
+
+/**
+ * Store en disco local compuesto por un snapshot ({@code snapshot.bin}) y un
+ * registro de cambios de sólo adición ({@code changes.log}).
+ *
+ * <p>Cada registro del log tiene la forma {@code [longitud][crc32][operación + campos]};
+ * un registro incompleto o con CRC inválido al final del archivo (escritura
+ * interrumpida) se descarta y el log se trunca en el último registro válido.
+ * El snapshot se escribe en un archivo temporal y se renombra de forma atómica,
+ * por lo que siempre se lee uno completo. La recuperación recorre ambos archivos
+ * mapeados en memoria, sin copias intermedias a buffers de lectura.</p>
+ */
+public class FileMessageStore implements MessageStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileMessageStore.class);
+
+    static final String SNAPSHOT_FILE = "snapshot.bin";
+    static final String LOG_FILE = "changes.log";
+
+    private static final int SNAPSHOT_MAGIC = 0x4D534753; // "MSGS"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int RECORD_HEADER = Integer.BYTES * 2;
+    private static final int NULL_FIELD = -1;
+
+    private static final byte OP_CREATED = 1;
+    private static final byte OP_UPDATED = 2;
+    private static final byte OP_DELETED = 3;
+
+    private final Path directory;
+    private final Path snapshotPath;
+    private final Path logPath;
+    private final boolean syncOnWrite;
+    private final int compactionThreshold;
+
+    private FileChannel log;
+    private int logRecords;
+
+    public FileMessageStore(Path directory, boolean syncOnWrite, int compactionThreshold) {
+        this.directory = directory;
+        this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        this.logPath = directory.resolve(LOG_FILE);
+        this.syncOnWrite = syncOnWrite;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public synchronized Map<String, MessageChange> load() {
+        try {
+            Files.createDirectories(directory);
+            Map<String, MessageChange> state = new LinkedHashMap<>();
+            readSnapshot(state);
+            long validLength = replayLog(state);
+            openLog(validLength);
+            return state;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("No fue posible recuperar el catálogo desde " + directory, exception);
+        }
+    }
+
+    @Override
+    public synchronized void append(CatalogEventType type, Message message) {
+        try {
+            if (log == null) {
+                Files.createDirectories(directory);
+                openLog(Files.exists(logPath) ? Files.size(logPath) : 0L);
+            }
+            ByteBuffer record = encodeRecord(type, message);
+            while (record.hasRemaining()) {
+                log.write(record);
+            }
+            if (syncOnWrite) {
+                log.force(false);
+            }
+            logRecords++;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("No fue posible registrar el cambio de " + message.key(), exception);
+        }
+    }
+
+    @Override
+    public synchronized boolean needsCompaction() {
+        return logRecords >= compactionThreshold;
+    }
+
+    @Override
+    public synchronized void compact() {
+        try {
+            Files.createDirectories(directory);
+            Map<String, MessageChange> state = new LinkedHashMap<>();
+            readSnapshot(state);
+            replayLog(state);
+            writeSnapshot(state);
+            if (log == null) {
+                openLog(0L);
+            }
+            log.truncate(0L);
+            log.force(true);
+            logRecords = 0;
+            LOGGER.info("Catálogo de mensajes compactado: {} claves en {}", state.size(), snapshotPath);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("No fue posible compactar el catálogo en " + directory, exception);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (log == null) {
+            return;
+        }
+        try {
+            log.force(true);
+            log.close();
+        } catch (IOException exception) {
+            LOGGER.warn("Error cerrando el registro de cambios {}", logPath, exception);
+        } finally {
+            log = null;
+        }
+    }
+
+    private void readSnapshot(Map<String, MessageChange> state) throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < Integer.BYTES * 4 || buffer.getInt() != SNAPSHOT_MAGIC
+                    || buffer.getInt() != SNAPSHOT_VERSION) {
+                throw new IllegalStateException("Snapshot de mensajes con formato desconocido: " + snapshotPath);
+            }
+            int count = buffer.getInt();
+            int bodyStart = buffer.position();
+            int bodyEnd = buffer.limit() - Integer.BYTES;
+            int expectedCrc = buffer.getInt(bodyEnd);
+            if (checksum(buffer, bodyStart, bodyEnd - bodyStart) != expectedCrc) {
+                throw new IllegalStateException("Snapshot de mensajes corrupto: " + snapshotPath);
+            }
+            buffer.limit(bodyEnd);
+            for (int i = 0; i < count; i++) {
+                put(state, decodeChange(buffer));
+            }
+        }
+    }
+
+    private long replayLog(Map<String, MessageChange> state) throws IOException {
+        if (!Files.exists(logPath)) {
+            logRecords = 0;
+            return 0L;
+        }
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int records = 0;
+            int valid = 0;
+            while (buffer.remaining() >= RECORD_HEADER) {
+                int length = buffer.getInt();
+                int crc = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()
+                        || checksum(buffer, buffer.position(), length) != crc) {
+                    break;
+                }
+                ByteBuffer payload = buffer.slice(buffer.position(), length);
+                put(state, decodeChange(payload));
+                buffer.position(buffer.position() + length);
+                valid = buffer.position();
+                records++;
+            }
+            if (valid < size) {
+                LOGGER.warn("Registro de cambios {} con {} bytes finales incompletos; se descartan",
+                        logPath, size - valid);
+            }
+            logRecords = records;
+            return valid;
+        }
+    }
+
+    private void openLog(long validLength) throws IOException {
+        if (log != null) {
+            log.close();
+        }
+        log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        if (log.size() > validLength) {
+            log.truncate(validLength);
+            log.force(true);
+        }
+        log.position(validLength);
+    }
+
+    private void writeSnapshot(Map<String, MessageChange> state) throws IOException {
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        int bodySize = 0;
+        for (MessageChange change : state.values()) {
+            bodySize += encodedSize(change.type(), change.payload());
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 4 + bodySize);
+        buffer.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION).putInt(state.size());
+        for (MessageChange change : state.values()) {
+            encodeChange(buffer, change.type(), change.payload());
+        }
+        buffer.putInt(checksum(buffer, Integer.BYTES * 3, bodySize));
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void put(Map<String, MessageChange> state, MessageChange change) {
+        // Reinsertar para que el orden refleje la última escritura de cada clave.
+        state.remove(change.payload().key());
+        state.put(change.payload().key(), change);
+    }
+
+    private static ByteBuffer encodeRecord(CatalogEventType type, Message message) {
+        int length = encodedSize(type, message);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER + length);
+        buffer.position(RECORD_HEADER);
+        encodeChange(buffer, type, message);
+        buffer.putInt(0, length);
+        buffer.putInt(Integer.BYTES, checksum(buffer, RECORD_HEADER, length));
+        buffer.flip();
+        return buffer;
+    }
+
+    private static int encodedSize(CatalogEventType type, Message message) {
+        if (type == CatalogEventType.DELETED) {
+            return 1 + fieldSize(message.key()) + Integer.BYTES * 3;
+        }
+        return 1 + fieldSize(message.key()) + fieldSize(message.value())
+                + fieldSize(message.technicalMessage()) + fieldSize(message.clientMessage());
+    }
+
+    private static int fieldSize(String value) {
+        return Integer.BYTES + (value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static void encodeChange(ByteBuffer buffer, CatalogEventType type, Message message) {
+        buffer.put(opCode(type));
+        putField(buffer, message.key());
+        if (type == CatalogEventType.DELETED) {
+            putField(buffer, null);
+            putField(buffer, null);
+            putField(buffer, null);
+            return;
+        }
+        putField(buffer, message.value());
+        putField(buffer, message.technicalMessage());
+        putField(buffer, message.clientMessage());
+    }
+
+    private static MessageChange decodeChange(ByteBuffer buffer) {
+        CatalogEventType type = eventType(buffer.get());
+        Message message = new Message(getField(buffer), getField(buffer), getField(buffer), getField(buffer));
+        return new MessageChange(0, type, message);
+    }
+
+    private static void putField(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(NULL_FIELD);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getField(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_FIELD) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    private static byte opCode(CatalogEventType type) {
+        return switch (type) {
+            case CREATED -> OP_CREATED;
+            case UPDATED -> OP_UPDATED;
+            case DELETED -> OP_DELETED;
+            case RESYNC -> throw new IllegalArgumentException("RESYNC no es un cambio persistible");
+        };
+    }
+
+    private static CatalogEventType eventType(byte code) {
+        return switch (code) {
+            case OP_CREATED -> CatalogEventType.CREATED;
+            case OP_UPDATED -> CatalogEventType.UPDATED;
+            case OP_DELETED -> CatalogEventType.DELETED;
+            default -> throw new IllegalStateException("Operación desconocida en el registro de cambios: " + code);
+        };
+    }
+}
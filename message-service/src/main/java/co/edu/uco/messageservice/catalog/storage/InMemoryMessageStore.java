@@ -0,0 +1,39 @@
+package co.edu.uco.messageservice.catalog.storage;
+
+import java.util.Map;
+
+import co.edu.uco.messageservice.catalog.CatalogEventType;
+import co.edu.uco.messageservice.catalog.Message;
+import co.edu.uco.messageservice.catalog.MessageChange;
+
+/**
+ * Store sin persistencia: los cambios se pierden al reiniciar. Útil para pruebas
+ * y despliegues efímeros ({@code catalog.storage.type=memory}).
+ */
+public class InMemoryMessageStore implements MessageStore {
+
+    @Override
+    public Map<String, MessageChange> load() {
+        return Map.of();
+    }
+
+    @Override
+    public void append(CatalogEventType type, Message message) {
+        // Nada que persistir.
+    }
+
+    @Override
+    public boolean needsCompaction() {
+        return false;
+    }
+
+    @Override
+    public void compact() {
+        // Nada que compactar.
+    }
+
+    @Override
+    public void close() {
+        // Sin recursos abiertos.
+    }
+}
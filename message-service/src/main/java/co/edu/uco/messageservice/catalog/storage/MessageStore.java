@@ -0,0 +1,41 @@
+package co.edu.uco.messageservice.catalog.storage;
+
+import java.util.Map;
+
+import co.edu.uco.messageservice.catalog.CatalogEventType;
+import co.edu.uco.messageservice.catalog.Message;
+import co.edu.uco.messageservice.catalog.MessageChange;
+
+/**
+ * Backend de persistencia del catálogo de mensajes. El mapa en memoria de
+ * {@link co.edu.uco.messageservice.catalog.MessageCatalog} sigue siendo la capa
+ * que atiende las lecturas; el store sólo registra los cambios y los devuelve
+ * al arrancar para reconstruir el estado.
+ */
+public interface MessageStore extends AutoCloseable {
+
+    /**
+     * Recupera el último cambio persistido de cada clave, en orden de escritura.
+     * Las eliminaciones se conservan como {@link CatalogEventType#DELETED} para
+     * poder retirar también los mensajes semilla.
+     */
+    Map<String, MessageChange> load();
+
+    /**
+     * Registra un cambio antes de que sea visible en el catálogo.
+     */
+    void append(CatalogEventType type, Message message);
+
+    /**
+     * Indica si el registro de cambios creció lo suficiente como para compactarlo.
+     */
+    boolean needsCompaction();
+
+    /**
+     * Reescribe el snapshot con el estado recuperado y vacía el registro de cambios.
+     */
+    void compact();
+
+    @Override
+    void close();
+}
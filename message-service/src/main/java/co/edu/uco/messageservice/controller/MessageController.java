@@ -1,7 +1,9 @@
 package co.edu.uco.messageservice.controller;
 
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,25 +11,30 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
 
-import co.edu.uco.messageservice.catalog.CatalogEventType;
 import co.edu.uco.messageservice.catalog.Message;
 import co.edu.uco.messageservice.service.ReactiveMessageService;
+import co.edu.uco.messageservice.snapshot.SnapshotEncoding;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * Controlador REST responsable de exponer el catálogo de mensajes asociados al
  * dominio de conjuntos residenciales. Mantiene la semántica reactiva requerida
- * por Spring WebFlux y aplica encabezados de no cacheo en cada respuesta.
+ * por Spring WebFlux. Las lecturas llevan un ETag y {@code no-cache}: se
+ * revalidan siempre, y un {@code If-None-Match} vigente se responde con
+ * {@code 304} sin cuerpo.
  */
 @RestController
 @RequestMapping("/api/v1/messages")
 public class MessageController {
 
     private static final CacheControl NO_CACHE = CacheControl.noStore().mustRevalidate();
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
 
     private final ReactiveMessageService service;
 
@@ -36,11 +43,35 @@ public class MessageController {
     }
 
     /**
-     * Obtiene de forma reactiva todos los mensajes disponibles.
+     * Obtiene todos los mensajes disponibles. El cuerpo es el snapshot ya
+     * serializado del catálogo, comprimido con gzip si el cliente lo acepta, y
+     * se entrega sin copiarlo; el ETag corresponde a su contenido.
      */
-    @GetMapping
-    public Flux<Message> getAllMessages() {
-        return service.findAll();
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<byte[]>> getAllMessages(
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            ServerWebExchange exchange) {
+        SnapshotEncoding encoding = SnapshotEncoding.negotiate(acceptEncoding);
+        return service.currentSnapshot()
+                .map(snapshot -> {
+                    String etag = EntityTags.ofSnapshot(snapshot, encoding);
+                    if (exchange.checkNotModified(etag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .cacheControl(REVALIDATE)
+                                .eTag(etag)
+                                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                                .build();
+                    }
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                            .cacheControl(REVALIDATE)
+                            .eTag(etag)
+                            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                            .contentType(MediaType.APPLICATION_JSON);
+                    if (encoding.contentEncoding() != null) {
+                        response.header(HttpHeaders.CONTENT_ENCODING, encoding.contentEncoding());
+                    }
+                    return response.body(service.serve(snapshot, encoding));
+                });
     }
 
     /**
@@ -50,9 +81,9 @@ public class MessageController {
     public Mono<ResponseEntity<Message>> getMessage(@PathVariable String key) {
         return service.findByKey(key)
                 .map(value -> ResponseEntity.ok()
-                        .cacheControl(NO_CACHE)
-                        .header("Pragma", "no-cache")
-                        .header("Expires", "0")
+                        .cacheControl(REVALIDATE)
+                        .eTag(EntityTags.ofContent(value.key(), value.value(), value.technicalMessage(),
+                                value.clientMessage()))
                         .body(value))
                 .switchIfEmpty(Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .cacheControl(NO_CACHE)
@@ -66,7 +97,7 @@ public class MessageController {
      */
     @PostMapping
     public Mono<ResponseEntity<Message>> createMessage(@RequestBody Message body) {
-        Message sanitizedMessage = new Message(body.getKey(), body.getValue());
+        Message sanitizedMessage = new Message(body.key(), body.value());
         return service.upsert(sanitizedMessage)
                 .map(saved -> ResponseEntity.status(HttpStatus.CREATED)
                         .cacheControl(NO_CACHE)
@@ -80,7 +111,7 @@ public class MessageController {
      */
     @PutMapping("/{key}")
     public Mono<ResponseEntity<Message>> updateMessage(@PathVariable String key, @RequestBody Message body) {
-        Message sanitizedMessage = new Message(key, body.getValue());
+        Message sanitizedMessage = new Message(key, body.value());
         return service.upsert(sanitizedMessage)
                 .map(saved -> ResponseEntity.ok()
                         .cacheControl(NO_CACHE)
@@ -90,14 +121,19 @@ public class MessageController {
     }
 
     /**
-     * Expone un flujo continuo de los mensajes modificados.
+     * Expone un flujo continuo de los mensajes modificados, eliminaciones
+     * incluidas. Cada evento lleva un {@code id}; al reconectar con el
+     * encabezado {@code Last-Event-ID} se entregan los cambios perdidos, o un
+     * evento {@code RESYNC} sin datos si ya no están disponibles.
      */
     @GetMapping(value = "/stream", produces = "text/event-stream")
-    public Flux<ServerSentEvent<Message>> streamUpdates() {
-        return service.listenChanges()
-                .filter(change -> change.type() != CatalogEventType.DELETED)
-                .map(change -> ServerSentEvent.<Message>builder(change.payload())
+    public Flux<ServerSentEvent<Message>> streamUpdates(
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return service.listenChanges(lastEventId)
+                .map(change -> ServerSentEvent.<Message>builder()
+                        .id(service.eventId(change))
                         .event(change.type().name())
+                        .data(change.payload())
                         .build());
     }
 }
@@ -1,10 +1,16 @@
 package co.edu.uco.messageservice.service;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.springframework.stereotype.Service;
 
 import co.edu.uco.messageservice.catalog.Message;
 import co.edu.uco.messageservice.catalog.MessageChange;
 import co.edu.uco.messageservice.catalog.ReactiveMessageCatalog;
+import co.edu.uco.messageservice.snapshot.CatalogSnapshot;
+import co.edu.uco.messageservice.snapshot.MessageCatalogSnapshots;
+import co.edu.uco.messageservice.snapshot.SnapshotEncoding;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -16,19 +22,36 @@ import reactor.core.publisher.Mono;
 public class ReactiveMessageService {
 
     private final ReactiveMessageCatalog catalog;
+    private final MessageCatalogSnapshots snapshots;
 
-    public ReactiveMessageService(ReactiveMessageCatalog catalog) {
+    public ReactiveMessageService(ReactiveMessageCatalog catalog, MessageCatalogSnapshots snapshots) {
         this.catalog = catalog;
+        this.snapshots = snapshots;
     }
 
     public Flux<Message> findAll() {
         return catalog.findAll();
     }
 
+    /**
+     * Catálogo completo ya serializado; sólo se regenera cuando cambia.
+     */
+    public Mono<CatalogSnapshot> currentSnapshot() {
+        return Mono.fromSupplier(snapshots::current);
+    }
+
+    public byte[] serve(CatalogSnapshot snapshot, SnapshotEncoding encoding) {
+        return snapshots.serve(snapshot, encoding);
+    }
+
     public Mono<Message> findByKey(String key) {
         return catalog.findByKey(key);
     }
 
+    public Mono<Map<String, Message>> findByKeys(Collection<String> keys) {
+        return catalog.findByKeys(keys);
+    }
+
     public Mono<Message> upsert(Message message) {
         return catalog.save(message);
     }
@@ -37,7 +60,11 @@ public class ReactiveMessageService {
         return catalog.remove(key);
     }
 
-    public Flux<MessageChange> listenChanges() {
-        return catalog.changes();
+    public Flux<MessageChange> listenChanges(String lastEventId) {
+        return catalog.changesAfter(lastEventId);
+    }
+
+    public String eventId(MessageChange change) {
+        return catalog.eventId(change);
     }
 }
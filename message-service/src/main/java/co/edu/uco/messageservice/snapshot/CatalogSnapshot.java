@@ -0,0 +1,34 @@
+package co.edu.uco.messageservice.snapshot;
+
+/**
+ * Catálogo completo serializado como arreglo JSON, sin comprimir y comprimido
+ * con gzip. Los arreglos se comparten entre todas las respuestas sin copiarse,
+ * por lo que nunca deben modificarse.
+ */
+public final class CatalogSnapshot {
+
+    private final String tag;
+    private final byte[] json;
+    private final byte[] gzip;
+
+    CatalogSnapshot(String tag, byte[] json, byte[] gzip) {
+        this.tag = tag;
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    /**
+     * Resumen del JSON sin comprimir: coincide entre réplicas y reinicios
+     * mientras el contenido sea el mismo.
+     */
+    public String tag() {
+        return tag;
+    }
+
+    public byte[] body(SnapshotEncoding encoding) {
+        return switch (encoding) {
+            case IDENTITY -> json;
+            case GZIP -> gzip;
+        };
+    }
+}
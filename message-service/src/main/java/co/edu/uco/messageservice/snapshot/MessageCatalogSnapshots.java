@@ -0,0 +1,180 @@
+package co.edu.uco.messageservice.snapshot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.uco.messageservice.catalog.Message;
+import co.edu.uco.messageservice.catalog.ReactiveMessageCatalog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Mantiene el catálogo de mensajes serializado y comprimido para el listado
+ * completo, que se consulta en cada arranque de los consumidores pero cambia
+ * pocas veces al día.
+ *
+ * <p>El snapshot se regenera la primera vez que se pide después de un cambio,
+ * detectado por la identidad del mapa inmutable del catálogo. La regeneración
+ * es incremental: el JSON de cada mensaje se conserva entre versiones y sólo
+ * se serializan los mensajes nuevos o modificados. Se publican las métricas
+ * {@code catalog.snapshot.rebuild}, {@code catalog.snapshot.size} y
+ * {@code catalog.snapshot.bytes.served}.</p>
+ */
+@Component
+public class MessageCatalogSnapshots {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MessageCatalogSnapshots.class);
+
+    private static final int TAG_BYTES = 16;
+
+    private final ReactiveMessageCatalog catalog;
+    private final ObjectMapper objectMapper;
+    private final Timer rebuildTimer;
+    private final Map<SnapshotEncoding, Counter> bytesServed = new EnumMap<>(SnapshotEncoding.class);
+    private Map<Message, byte[]> fragments = new IdentityHashMap<>();
+    private volatile Built current;
+
+    public MessageCatalogSnapshots(ReactiveMessageCatalog catalog, ObjectMapper objectMapper,
+            MeterRegistry registry) {
+        this.catalog = catalog;
+        this.objectMapper = objectMapper;
+        this.rebuildTimer = Timer.builder("catalog.snapshot.rebuild")
+                .description("Tiempo de regeneración del snapshot serializado del catálogo")
+                .register(registry);
+        for (SnapshotEncoding encoding : SnapshotEncoding.values()) {
+            String name = encoding.name().toLowerCase(Locale.ROOT);
+            bytesServed.put(encoding, Counter.builder("catalog.snapshot.bytes.served")
+                    .description("Bytes del catálogo completo entregados a los clientes")
+                    .baseUnit("bytes")
+                    .tag("encoding", name)
+                    .register(registry));
+            Gauge.builder("catalog.snapshot.size", this, snapshots -> snapshots.size(encoding))
+                    .description("Tamaño del snapshot vigente del catálogo")
+                    .baseUnit("bytes")
+                    .tag("encoding", name)
+                    .register(registry);
+        }
+    }
+
+    /**
+     * Genera el primer snapshot al arrancar para que ninguna petición pague la serialización inicial.
+     */
+    @PostConstruct
+    void warmUp() {
+        current();
+    }
+
+    /**
+     * Snapshot correspondiente al contenido vigente del catálogo.
+     */
+    public CatalogSnapshot current() {
+        Built built = current;
+        if (built != null && built.source() == catalog.snapshot()) {
+            return built.snapshot();
+        }
+        return rebuild();
+    }
+
+    /**
+     * Cuerpo a enviar en la representación elegida; contabiliza los bytes entregados.
+     */
+    public byte[] serve(CatalogSnapshot snapshot, SnapshotEncoding encoding) {
+        byte[] body = snapshot.body(encoding);
+        bytesServed.get(encoding).increment(body.length);
+        return body;
+    }
+
+    private synchronized CatalogSnapshot rebuild() {
+        // Otro lector pudo regenerarlo mientras éste esperaba el cerrojo.
+        Map<String, Message> source = catalog.snapshot();
+        Built built = current;
+        if (built != null && built.source() == source) {
+            return built.snapshot();
+        }
+        CatalogSnapshot snapshot = rebuildTimer.record(() -> build(source));
+        current = new Built(source, snapshot);
+        LOGGER.debug("Snapshot del catálogo de mensajes regenerado: {} mensajes, {} bytes, {} bytes en gzip",
+                source.size(), snapshot.body(SnapshotEncoding.IDENTITY).length,
+                snapshot.body(SnapshotEncoding.GZIP).length);
+        return snapshot;
+    }
+
+    private CatalogSnapshot build(Map<String, Message> source) {
+        try {
+            Map<Message, byte[]> reused = new IdentityHashMap<>(source.size());
+            ByteArrayOutputStream json = new ByteArrayOutputStream();
+            json.write('[');
+            boolean first = true;
+            for (Message message : source.values()) {
+                byte[] fragment = fragments.get(message);
+                if (fragment == null) {
+                    fragment = objectMapper.writeValueAsBytes(message);
+                }
+                reused.put(message, fragment);
+                if (!first) {
+                    json.write(',');
+                }
+                json.writeBytes(fragment);
+                first = false;
+            }
+            json.write(']');
+            fragments = reused;
+            byte[] plain = json.toByteArray();
+            return new CatalogSnapshot(tagOf(plain), plain, gzip(plain));
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException("No fue posible serializar el catálogo de mensajes", exception);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("No fue posible comprimir el catálogo de mensajes", exception);
+        }
+    }
+
+    private double size(SnapshotEncoding encoding) {
+        Built built = current;
+        return built == null ? 0 : built.snapshot().body(encoding).length;
+    }
+
+    private static byte[] gzip(byte[] plain) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(plain.length / 4 + 64);
+        // Se comprime una vez por versión del catálogo: compensa usar el nivel máximo.
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(plain);
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String tagOf(byte[] plain) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(plain);
+            return HexFormat.of().formatHex(hash, 0, TAG_BYTES);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 no disponible en la JVM", exception);
+        }
+    }
+
+    private record Built(Map<String, Message> source, CatalogSnapshot snapshot) {
+    }
+}
@@ -0,0 +1,64 @@
+package co.edu.uco.messageservice.snapshot;
+
+import java.util.Locale;
+
+/**
+ * Representaciones disponibles del snapshot del catálogo y negociación a
+ * partir del encabezado {@code Accept-Encoding}.
+ */
+public enum SnapshotEncoding {
+
+    IDENTITY(null),
+    GZIP("gzip");
+
+    private final String contentEncoding;
+
+    SnapshotEncoding(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+
+    /**
+     * Valor del encabezado {@code Content-Encoding}; {@code null} para el JSON sin comprimir.
+     */
+    public String contentEncoding() {
+        return contentEncoding;
+    }
+
+    /**
+     * Elige gzip si el cliente lo acepta, de forma explícita o mediante
+     * {@code *}, con un factor {@code q} mayor que cero; en otro caso, el JSON
+     * sin comprimir, que siempre es aceptable.
+     */
+    public static SnapshotEncoding negotiate(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return IDENTITY;
+        }
+        Double gzip = null;
+        Double any = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            if ("gzip".equals(coding) || "x-gzip".equals(coding)) {
+                gzip = quality(parts);
+            } else if ("*".equals(coding)) {
+                any = quality(parts);
+            }
+        }
+        double quality = gzip != null ? gzip : any != null ? any : 0;
+        return quality > 0 ? GZIP : IDENTITY;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2));
+                } catch (NumberFormatException exception) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
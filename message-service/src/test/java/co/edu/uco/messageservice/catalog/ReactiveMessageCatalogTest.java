@@ -0,0 +1,73 @@
+package co.edu.uco.messageservice.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import co.edu.uco.messageservice.catalog.storage.InMemoryMessageStore;
+
+class ReactiveMessageCatalogTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void shouldResumeExactlyAfterLastEventId() {
+        ReactiveMessageCatalog catalog = new ReactiveMessageCatalog(new InMemoryMessageStore(), 16);
+        catalog.save(new Message("test.resume.a", "A")).block(TIMEOUT);
+        String lastEventId = catalog.eventId(catalog.changes().blockFirst(TIMEOUT));
+        catalog.save(new Message("test.resume.b", "B")).block(TIMEOUT);
+        catalog.remove("test.resume.a").block(TIMEOUT);
+
+        List<MessageChange> missed = catalog.changesAfter(lastEventId).take(2).collectList().block(TIMEOUT);
+
+        assertEquals(List.of(CatalogEventType.CREATED, CatalogEventType.DELETED),
+                missed.stream().map(MessageChange::type).toList());
+        assertEquals(List.of(2L, 3L), missed.stream().map(MessageChange::sequence).toList());
+    }
+
+    @Test
+    void shouldAskForResyncWhenMissedChangesWereEvicted() {
+        ReactiveMessageCatalog catalog = new ReactiveMessageCatalog(new InMemoryMessageStore(), 2);
+        catalog.save(new Message("test.evicted.a", "A")).block(TIMEOUT);
+        String lastEventId = catalog.eventId(catalog.changes().blockFirst(TIMEOUT));
+        for (int i = 0; i < 5; i++) {
+            catalog.save(new Message("test.evicted.b", "B" + i)).block(TIMEOUT);
+        }
+
+        MessageChange first = catalog.changesAfter(lastEventId).blockFirst(TIMEOUT);
+
+        assertEquals(CatalogEventType.RESYNC, first.type());
+        assertEquals(6L, first.sequence());
+    }
+
+    @Test
+    void shouldAskForResyncWhenEventIdBelongsToAnotherRun() {
+        ReactiveMessageCatalog catalog = new ReactiveMessageCatalog(new InMemoryMessageStore(), 16);
+        catalog.save(new Message("test.epoch.a", "A")).block(TIMEOUT);
+
+        MessageChange first = catalog.changesAfter("otra-1").blockFirst(TIMEOUT);
+
+        assertEquals(CatalogEventType.RESYNC, first.type());
+    }
+
+    @Test
+    void shouldShareStoredInstancesAndKeepTechnicalMessage() {
+        ReactiveMessageCatalog catalog = new ReactiveMessageCatalog(new InMemoryMessageStore(), 16);
+        Map<String, Message> before = catalog.snapshot();
+
+        Message first = catalog.findByKey("domain.general.error").block(TIMEOUT);
+        Message second = catalog.findByKey("domain.general.error").block(TIMEOUT);
+
+        assertSame(first, second);
+        assertEquals("Unexpected error in conjunto domain.", first.technicalMessage());
+        assertSame(before, catalog.snapshot());
+        catalog.save(new Message("test.snapshot.a", "A")).block(TIMEOUT);
+        assertNotSame(before, catalog.snapshot());
+    }
+}
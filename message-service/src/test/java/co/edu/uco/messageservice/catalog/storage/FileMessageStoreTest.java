@@ -0,0 +1,93 @@
+package co.edu.uco.messageservice.catalog.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import co.edu.uco.messageservice.catalog.CatalogEventType;
+import co.edu.uco.messageservice.catalog.Message;
+import co.edu.uco.messageservice.catalog.MessageChange;
+
+class FileMessageStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRecoverChangesAfterReopening() {
+        try (FileMessageStore store = new FileMessageStore(directory, false, 1000)) {
+            store.load();
+            store.append(CatalogEventType.CREATED, new Message("a", "Valor A"));
+            store.append(CatalogEventType.CREATED, new Message("b", "Tech B", "Cliente B"));
+            store.append(CatalogEventType.UPDATED, new Message("a", "Valor A2"));
+            store.append(CatalogEventType.DELETED, new Message("c", "Semilla"));
+        }
+
+        try (FileMessageStore reopened = new FileMessageStore(directory, false, 1000)) {
+            Map<String, MessageChange> state = reopened.load();
+
+            assertEquals(List.of("b", "a", "c"), List.copyOf(state.keySet()));
+            assertEquals("Valor A2", state.get("a").payload().value());
+            assertEquals("Tech B", state.get("b").payload().technicalMessage());
+            assertEquals(CatalogEventType.DELETED, state.get("c").type());
+            assertNull(state.get("c").payload().value());
+        }
+    }
+
+    @Test
+    void shouldDiscardTornTailAndKeepAppending() throws IOException {
+        try (FileMessageStore store = new FileMessageStore(directory, false, 1000)) {
+            store.load();
+            store.append(CatalogEventType.CREATED, new Message("a", "Valor A"));
+            store.append(CatalogEventType.CREATED, new Message("b", "Valor B"));
+        }
+        Path log = directory.resolve(FileMessageStore.LOG_FILE);
+        long intact = Files.size(log);
+        // Simula una escritura interrumpida: cabecera válida con cuerpo incompleto.
+        Files.write(log, new byte[] {0, 0, 0, 40, 1, 2, 3, 4, 1, 0}, StandardOpenOption.APPEND);
+
+        try (FileMessageStore reopened = new FileMessageStore(directory, false, 1000)) {
+            assertEquals(2, reopened.load().size());
+            assertEquals(intact, Files.size(log));
+            reopened.append(CatalogEventType.CREATED, new Message("c", "Valor C"));
+        }
+
+        try (FileMessageStore reopened = new FileMessageStore(directory, false, 1000)) {
+            assertEquals("Valor C", reopened.load().get("c").payload().value());
+        }
+    }
+
+    @Test
+    void shouldCompactLogIntoSnapshot() throws IOException {
+        try (FileMessageStore store = new FileMessageStore(directory, false, 3)) {
+            store.load();
+            store.append(CatalogEventType.CREATED, new Message("a", "Valor A"));
+            store.append(CatalogEventType.UPDATED, new Message("a", "Valor A2"));
+            store.append(CatalogEventType.CREATED, new Message("b", "Valor B"));
+            assertTrue(store.needsCompaction());
+
+            store.compact();
+
+            assertEquals(0, Files.size(directory.resolve(FileMessageStore.LOG_FILE)));
+            assertTrue(Files.exists(directory.resolve(FileMessageStore.SNAPSHOT_FILE)));
+            store.append(CatalogEventType.DELETED, new Message("b", "Valor B"));
+        }
+
+        try (FileMessageStore reopened = new FileMessageStore(directory, false, 3)) {
+            Map<String, MessageChange> state = reopened.load();
+
+            assertEquals("Valor A2", state.get("a").payload().value());
+            assertEquals(CatalogEventType.DELETED, state.get("b").type());
+        }
+    }
+}
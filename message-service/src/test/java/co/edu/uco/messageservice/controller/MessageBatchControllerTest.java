@@ -0,0 +1,29 @@
+package co.edu.uco.messageservice.controller;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class MessageBatchControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Test
+    void shouldResolveKnownKeysInOneRequest() {
+        client.post().uri("/api/v1/messages:batchGet")
+                .bodyValue(new BatchGetRequest(List.of("validation.general", "no.existe", "domain.general.error")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$['validation.general'].key").isEqualTo("validation.general")
+                .jsonPath("$['domain.general.error'].value").exists();
+    }
+}
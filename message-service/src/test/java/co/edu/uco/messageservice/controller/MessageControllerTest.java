@@ -0,0 +1,111 @@
+package co.edu.uco.messageservice.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import co.edu.uco.messageservice.catalog.Message;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class MessageControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Test
+    void shouldAnswerNotModifiedWhileMessageIsUnchanged() {
+        client.post().uri("/api/v1/messages").bodyValue(new Message("test.etag.key", "Valor"))
+                .exchange().expectStatus().isCreated();
+        String etag = client.get().uri("/api/v1/messages/test.etag.key")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().cacheControl(CacheControl.noCache())
+                .returnResult(Message.class)
+                .getResponseHeaders().getETag();
+
+        client.get().uri("/api/v1/messages/test.etag.key").header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_MODIFIED)
+                .expectBody().isEmpty();
+
+        client.put().uri("/api/v1/messages/test.etag.key").bodyValue(new Message(null, "Otro valor"))
+                .exchange().expectStatus().isOk();
+        String changed = client.get().uri("/api/v1/messages/test.etag.key").header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Message.class)
+                .getResponseHeaders().getETag();
+        assertNotEquals(etag, changed);
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForListUntilCatalogChanges() {
+        String etag = client.get().uri("/api/v1/messages")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Message.class)
+                .getResponseHeaders().getETag();
+
+        client.get().uri("/api/v1/messages").header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        client.post().uri("/api/v1/messages").bodyValue(new Message("test.etag.list", "Valor"))
+                .exchange().expectStatus().isCreated();
+        client.get().uri("/api/v1/messages").header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void shouldListSerializedCatalogWithTechnicalMessages() {
+        client.get().uri("/api/v1/messages")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBodyList(Message.class)
+                .value(messages -> assertTrue(messages.contains(new Message("domain.general.error",
+                        "Unexpected error in conjunto domain.", "Ocurrió un error inesperado. Intenta nuevamente."))));
+    }
+
+    @Test
+    void shouldServeGzipSnapshotWhenAccepted() throws IOException {
+        EntityExchangeResult<byte[]> plain = client.get().uri("/api/v1/messages")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(byte[].class).returnResult();
+        EntityExchangeResult<byte[]> compressed = client.get().uri("/api/v1/messages")
+                .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .expectBody(byte[].class).returnResult();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed.getResponseBody()))) {
+            assertArrayEquals(plain.getResponseBody(), gzip.readAllBytes());
+        }
+        assertNotEquals(plain.getResponseHeaders().getETag(), compressed.getResponseHeaders().getETag());
+        client.get().uri("/api/v1/messages")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.IF_NONE_MATCH, compressed.getResponseHeaders().getETag())
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+}
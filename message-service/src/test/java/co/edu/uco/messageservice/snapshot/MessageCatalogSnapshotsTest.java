@@ -0,0 +1,56 @@
+package co.edu.uco.messageservice.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.uco.messageservice.catalog.Message;
+import co.edu.uco.messageservice.catalog.ReactiveMessageCatalog;
+import co.edu.uco.messageservice.catalog.storage.InMemoryMessageStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MessageCatalogSnapshotsTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void shouldRebuildOnlyAfterCatalogChanges() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReactiveMessageCatalog catalog = new ReactiveMessageCatalog(new InMemoryMessageStore(), 16);
+        MessageCatalogSnapshots snapshots = new MessageCatalogSnapshots(catalog, objectMapper, registry);
+
+        CatalogSnapshot first = snapshots.current();
+        assertSame(first, snapshots.current());
+        assertEquals(1, registry.get("catalog.snapshot.rebuild").timer().count());
+
+        catalog.save(new Message("test.snapshot.rebuild", "Valor")).block(TIMEOUT);
+        CatalogSnapshot second = snapshots.current();
+
+        assertNotEquals(first.tag(), second.tag());
+        assertEquals(2, registry.get("catalog.snapshot.rebuild").timer().count());
+        // La versión incremental debe producir lo mismo que serializar el catálogo completo.
+        assertEquals(objectMapper.writeValueAsString(catalog.snapshot().values()),
+                new String(second.body(SnapshotEncoding.IDENTITY), StandardCharsets.UTF_8));
+
+        byte[] body = snapshots.serve(second, SnapshotEncoding.GZIP);
+        assertEquals(body.length, registry.get("catalog.snapshot.bytes.served").tag("encoding", "gzip")
+                .counter().count());
+    }
+
+    @Test
+    void shouldNegotiateGzipOnlyWhenAccepted() {
+        assertEquals(SnapshotEncoding.IDENTITY, SnapshotEncoding.negotiate(null));
+        assertEquals(SnapshotEncoding.IDENTITY, SnapshotEncoding.negotiate("br, deflate"));
+        assertEquals(SnapshotEncoding.IDENTITY, SnapshotEncoding.negotiate("gzip;q=0, *"));
+        assertEquals(SnapshotEncoding.GZIP, SnapshotEncoding.negotiate("deflate, GZIP;q=0.5"));
+        assertEquals(SnapshotEncoding.GZIP, SnapshotEncoding.negotiate("*"));
+    }
+}
@@ -6,5 +6,10 @@ package co.edu.uco.parametersservice.catalog;
 public enum CatalogEventType {
     CREATED,
     UPDATED,
-    DELETED
+    DELETED,
+    /**
+     * No es un cambio del catálogo: indica a un suscriptor del stream que los
+     * eventos que perdió ya no están disponibles y debe recargar el catálogo.
+     */
+    RESYNC
 }
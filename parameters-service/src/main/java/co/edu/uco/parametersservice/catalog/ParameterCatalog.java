@@ -1,16 +1,24 @@
 package co.edu.uco.parametersservice.catalog;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Catálogo en memoria que mantiene configuraciones para la gestión de
  * conjuntos residenciales. Los parámetros permiten ajustar reglas de negocio
  * como límites de paginación, validaciones de nombre y correo de contacto.
+ *
+ * <p>El contenido vigente es un mapa inmutable que cada escritura reemplaza por
+ * una copia modificada (copy-on-write): las lecturas no toman cerrojos ni
+ * copian, y comparten las mismas instancias de {@link Parameter}.</p>
  */
 public final class ParameterCatalog {
 
-    private static final Map<String, Parameter> PARAMETERS = new ConcurrentHashMap<>();
+    private static final Map<String, Parameter> SEEDS = new LinkedHashMap<>();
+
+    private static volatile Map<String, Parameter> parameters;
 
     static {
         // Notificaciones y contacto
@@ -22,6 +30,8 @@ public final class ParameterCatalog {
         register("gestion.conjunto.nombre.longitudMaxima", "80");
         register("gestion.conjunto.listado.limite", "50");
         register("conjunto.max.limit", "500");
+
+        parameters = Collections.unmodifiableMap(SEEDS);
     }
 
     private ParameterCatalog() {
@@ -29,22 +39,49 @@ public final class ParameterCatalog {
     }
 
     public static Parameter getParameterValue(String key) {
-        return PARAMETERS.get(key);
+        return parameters.get(key);
+    }
+
+    public static synchronized void synchronizeParameterValue(Parameter parameter) {
+        Map<String, Parameter> next = new LinkedHashMap<>(parameters);
+        next.put(parameter.key(), parameter);
+        parameters = Collections.unmodifiableMap(next);
     }
 
-    public static void synchronizeParameterValue(Parameter parameter) {
-        register(parameter.getKey(), parameter.getValue());
+    /**
+     * Reinstala de una sola vez los cambios recuperados del almacenamiento tal
+     * como fueron persistidos, con una única copia del catálogo.
+     */
+    public static synchronized void restoreParameters(Collection<ParameterChange> changes) {
+        Map<String, Parameter> next = new LinkedHashMap<>(parameters);
+        for (ParameterChange change : changes) {
+            if (change.type() == CatalogEventType.DELETED) {
+                next.remove(change.payload().key());
+            } else {
+                next.put(change.payload().key(), change.payload());
+            }
+        }
+        parameters = Collections.unmodifiableMap(next);
     }
 
-    public static Parameter removeParameter(String key) {
-        return PARAMETERS.remove(key);
+    public static synchronized Parameter removeParameter(String key) {
+        Parameter current = parameters.get(key);
+        if (current != null) {
+            Map<String, Parameter> next = new LinkedHashMap<>(parameters);
+            next.remove(key);
+            parameters = Collections.unmodifiableMap(next);
+        }
+        return current;
     }
 
+    /**
+     * Mapa inmutable con el contenido vigente del catálogo.
+     */
     public static Map<String, Parameter> getAllParameters() {
-        return PARAMETERS;
+        return parameters;
     }
 
     private static void register(final String key, final String value) {
-        PARAMETERS.put(key, new Parameter(key, value));
+        SEEDS.put(key, new Parameter(key, value));
     }
 }
@@ -1,7 +1,9 @@
 package co.edu.uco.parametersservice.catalog;
 
 /**
- * Evento emitido cuando un parámetro cambia.
+ * Evento emitido cuando un parámetro cambia. La versión es global al catálogo y
+ * crece de forma monótona con cada escritura, de modo que un consumidor puede
+ * pedir todo lo ocurrido después de la última versión que aplicó.
  */
-public record ParameterChange(CatalogEventType type, Parameter payload) {
+public record ParameterChange(long version, CatalogEventType type, Parameter payload) {
 }
@@ -1,68 +1,236 @@
 package co.edu.uco.parametersservice.catalog;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import co.edu.uco.parametersservice.catalog.storage.ParameterStore;
+import jakarta.annotation.PostConstruct;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Catálogo reactivo que delega todas las operaciones al catálogo estático
  * {@link ParameterCatalog} asegurando que los datos expuestos sean los
  * actualmente definidos y que los cambios emitan eventos.
+ *
+ * <p>Cada escritura recibe una versión global creciente, se registra en el
+ * {@link ParameterStore} y sólo después se publica en memoria; los parámetros
+ * son inmutables y se comparten sin copias entre lecturas y eventos. Se conserva el
+ * último cambio de cada clave indexado por versión para responder "cambios
+ * desde la versión N" sin recorrer el catálogo completo.</p>
+ *
+ * <p>La versión es también el {@code id} de los eventos del stream. Un
+ * suscriptor que se reconecta recibe primero, desde ese índice, el último
+ * cambio de cada clave que se perdió y luego los cambios en vivo; los últimos
+ * {@code catalog.stream.history-size} cambios se conservan en un buffer
+ * circular para no perder los que lleguen mientras tanto.</p>
  */
 @Component
 public class ReactiveParameterCatalog {
 
-    private final Sinks.Many<ParameterChange> sink = Sinks.many().replay().latest();
-    private final Flux<ParameterChange> changeStream = sink.asFlux();
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReactiveParameterCatalog.class);
+
+    private final Flux<ParameterChange> changeStream;
+    private final SerializedChangeEmitter<ParameterChange> emitter;
+    private final ParameterStore store;
+    private final Object writeLock = new Object();
+    private final NavigableMap<Long, ParameterChange> changesByVersion = new ConcurrentSkipListMap<>();
+    private final Map<String, Long> versionByKey = new HashMap<>();
+    private volatile long version;
+
+    public ReactiveParameterCatalog(ParameterStore store,
+            @Value("${catalog.stream.history-size:1024}") int historySize) {
+        this.store = store;
+        Sinks.Many<ParameterChange> sink = Sinks.many().replay().limit(historySize);
+        this.changeStream = sink.asFlux();
+        this.emitter = new SerializedChangeEmitter<>(sink);
+    }
 
-    public ReactiveParameterCatalog() {
-        // Sin carga de defaults: la fuente es ParameterCatalog
+    /**
+     * Aplica sobre los parámetros semilla los cambios persistidos en ejecuciones anteriores.
+     */
+    @PostConstruct
+    void recover() {
+        List<ParameterChange> persisted = store.load();
+        synchronized (writeLock) {
+            ParameterCatalog.restoreParameters(persisted);
+            for (ParameterChange change : persisted) {
+                index(change);
+                version = Math.max(version, change.version());
+            }
+        }
+        LOGGER.info("Catálogo de parámetros recuperado: {} cambios aplicados, versión {}", persisted.size(),
+                version);
     }
 
     public Flux<Parameter> findAll() {
-        return Flux.defer(() -> Flux.fromIterable(ParameterCatalog.getAllParameters().values())
-                .map(this::copyOf));
+        return Flux.defer(() -> Flux.fromIterable(ParameterCatalog.getAllParameters().values()));
+    }
+
+    /**
+     * Contenido vigente del catálogo como mapa inmutable. Su identidad cambia
+     * con cada escritura, por lo que sirve para invalidar vistas derivadas.
+     */
+    public Map<String, Parameter> snapshot() {
+        return ParameterCatalog.getAllParameters();
     }
 
     public Mono<Parameter> findByKey(String key) {
-        return Mono.defer(() -> Mono.justOrEmpty(ParameterCatalog.getParameterValue(key))
-                .map(this::copyOf));
+        return Mono.defer(() -> Mono.justOrEmpty(ParameterCatalog.getParameterValue(key)));
     }
 
-    public Mono<Parameter> save(Parameter parameter) {
+    public Mono<Map<String, Parameter>> findByKeys(Collection<String> keys) {
         return Mono.fromSupplier(() -> {
-            Parameter sanitized = copyOf(parameter);
-            CatalogEventType type = ParameterCatalog.getParameterValue(sanitized.getKey()) != null
-                    ? CatalogEventType.UPDATED
-                    : CatalogEventType.CREATED;
-            ParameterCatalog.synchronizeParameterValue(sanitized);
-            emit(type, sanitized);
-            return copyOf(sanitized);
+            Map<String, Parameter> found = new LinkedHashMap<>();
+            for (String key : keys) {
+                Parameter parameter = ParameterCatalog.getParameterValue(key);
+                if (parameter != null) {
+                    found.put(key, parameter);
+                }
+            }
+            return found;
         });
     }
 
+    /**
+     * Versión del último cambio aplicado; {@code 0} mientras sólo existan los valores semilla.
+     */
+    public long currentVersion() {
+        return version;
+    }
+
+    /**
+     * Último cambio de cada clave modificada después de {@code sinceVersion}, en orden de versión.
+     * Aplicarlos en ese orden deja al consumidor en el mismo estado que el catálogo.
+     */
+    public Flux<ParameterChange> changesSince(long sinceVersion) {
+        return Flux.defer(() -> Flux.fromIterable(changesByVersion.tailMap(sinceVersion, false).values()));
+    }
+
+    public Mono<Parameter> save(Parameter parameter) {
+        return Mono.fromSupplier(() -> {
+            synchronized (writeLock) {
+                CatalogEventType type = ParameterCatalog.getParameterValue(parameter.key()) != null
+                        ? CatalogEventType.UPDATED
+                        : CatalogEventType.CREATED;
+                ParameterChange change = new ParameterChange(version + 1, type, parameter);
+                store.append(change);
+                ParameterCatalog.synchronizeParameterValue(parameter);
+                publish(change);
+            }
+            emitter.drain();
+            return parameter;
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
     public Mono<Parameter> remove(String key) {
-        return Mono.defer(() -> {
-            Parameter removed = ParameterCatalog.removeParameter(key);
-            if (removed == null) {
-                return Mono.empty();
+        return Mono.fromCallable(() -> {
+            Parameter current;
+            synchronized (writeLock) {
+                current = ParameterCatalog.getParameterValue(key);
+                if (current == null) {
+                    return null;
+                }
+                ParameterChange change = new ParameterChange(version + 1, CatalogEventType.DELETED, current);
+                store.append(change);
+                ParameterCatalog.removeParameter(key);
+                publish(change);
             }
-            emit(CatalogEventType.DELETED, removed);
-            return Mono.just(copyOf(removed));
-        });
+            emitter.drain();
+            return current;
+        }).subscribeOn(Schedulers.boundedElastic());
     }
 
     public Flux<ParameterChange> changes() {
         return changeStream;
     }
 
-    private void emit(CatalogEventType type, Parameter parameter) {
-        sink.emitNext(new ParameterChange(type, copyOf(parameter)), Sinks.EmitFailureHandler.FAIL_FAST);
+    /**
+     * Cambios posteriores a la versión {@code lastEventId} (el {@code id} SSE
+     * recibido por última vez) seguidos de los cambios en vivo. Sin identificador
+     * sólo se entregan los cambios futuros. Si la versión es desconocida, por
+     * ejemplo porque el almacenamiento se reinició, primero se emite un
+     * {@link CatalogEventType#RESYNC}.
+     */
+    public Flux<ParameterChange> changesAfter(String lastEventId) {
+        return Flux.defer(() -> {
+            long current = version;
+            if (lastEventId == null || lastEventId.isBlank()) {
+                return changesAfterVersion(current);
+            }
+            long resumeFrom = resumePoint(lastEventId, current);
+            if (resumeFrom < 0) {
+                return Flux.concat(Mono.just(resync(current)), changesAfterVersion(current));
+            }
+            Flux<ParameterChange> missed = changesSince(resumeFrom)
+                    .filter(change -> change.version() <= current);
+            // Los cambios en vivo deben continuar justo después de la versión leída; si el buffer
+            // ya descartó alguno, se pide recargar en lugar de entregar un hueco.
+            Flux<ParameterChange> live = changesAfterVersion(current)
+                    .switchOnFirst((first, changes) -> first.hasValue()
+                            && first.get().version() > current + 1
+                            ? Flux.concat(Mono.just(resync(first.get().version() - 1)), changes)
+                            : changes);
+            return Flux.concat(missed, live);
+        });
+    }
+
+    // Se invoca bajo writeLock para que versión y orden de la cola coincidan; la emisión ocurre fuera del cerrojo.
+    private void publish(ParameterChange change) {
+        index(change);
+        version = change.version();
+        emitter.enqueue(change);
+        compactIfNeeded();
+    }
+
+    // El cambio ya está registrado y aplicado: un fallo al compactar no debe hacer fallar la escritura.
+    private void compactIfNeeded() {
+        if (!store.needsCompaction()) {
+            return;
+        }
+        try {
+            store.compact();
+        } catch (RuntimeException exception) {
+            LOGGER.warn("No fue posible compactar el catálogo de parámetros; se reintentará en la próxima escritura",
+                    exception);
+        }
+    }
+
+    private void index(ParameterChange change) {
+        // Se inserta antes de retirar la versión anterior: un lector concurrente puede ver ambas, nunca ninguna.
+        changesByVersion.put(change.version(), change);
+        Long previous = versionByKey.put(change.payload().key(), change.version());
+        if (previous != null) {
+            changesByVersion.remove(previous);
+        }
+    }
+
+    private Flux<ParameterChange> changesAfterVersion(long after) {
+        return changeStream.filter(change -> change.version() > after);
+    }
+
+    private ParameterChange resync(long current) {
+        return new ParameterChange(current, CatalogEventType.RESYNC, null);
     }
 
-    private Parameter copyOf(Parameter parameter) {
-        return new Parameter(parameter.getKey(), parameter.getValue());
+    private static long resumePoint(String lastEventId, long current) {
+        try {
+            long lastVersion = Long.parseLong(lastEventId.trim());
+            return lastVersion < 0 || lastVersion > current ? -1 : lastVersion;
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
     }
 }
@@ -0,0 +1,58 @@
+package co.edu.uco.parametersservice.catalog;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import reactor.core.publisher.Sinks;
+
+/**
+ * Publica cambios en un {@link Sinks.Many} desde varios hilos sin que ninguno
+ * falle por {@code FAIL_NON_SERIALIZED}. Los productores encolan en una cola
+ * MPSC y sólo un hilo a la vez (el que gana el contador de trabajo pendiente)
+ * la vacía hacia el sink; los demás retornan de inmediato sin esperar.
+ *
+ * <p>El orden de emisión es el orden de {@link #enqueue}: si los productores
+ * encolan bajo el mismo cerrojo que asigna la secuencia, los suscriptores
+ * reciben las secuencias en orden.</p>
+ */
+final class SerializedChangeEmitter<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SerializedChangeEmitter.class);
+
+    private final Sinks.Many<T> sink;
+    private final Queue<T> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    SerializedChangeEmitter(Sinks.Many<T> sink) {
+        this.sink = sink;
+    }
+
+    void enqueue(T change) {
+        pending.offer(change);
+    }
+
+    /**
+     * Emite lo encolado. Si otro hilo ya está emitiendo, éste se encarga también
+     * de lo recién encolado y la llamada retorna sin bloquear.
+     */
+    void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            T next;
+            while ((next = pending.poll()) != null) {
+                Sinks.EmitResult result = sink.tryEmitNext(next);
+                if (result.isFailure()) {
+                    LOGGER.warn("No fue posible publicar el cambio en el stream: {}", result);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
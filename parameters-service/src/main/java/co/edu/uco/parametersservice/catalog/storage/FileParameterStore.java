@@ -0,0 +1,319 @@
+package co.edu.uco.parametersservice.catalog.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import co.edu.uco.parametersservice.catalog.CatalogEventType;
+import co.edu.uco.parametersservice.catalog.Parameter;
+import co.edu.uco.parametersservice.catalog.ParameterChange;
+
+/**
+ * Store en disco local compuesto por un snapshot ({@code snapshot.bin}) y un
+ * registro de cambios de sólo adición ({@code changes.log}).
+ *
+ * <p>Cada registro del log tiene la forma {@code [longitud][crc32][versión + operación + campos]};
+ * un registro incompleto o con CRC inválido al final del archivo se descarta y
+ * el log se trunca en el último registro válido. La compactación conserva el
+ * último cambio de cada clave con su versión original, incluidas las
+ * eliminaciones, para que las consultas "cambios desde la versión N" sigan
+ * siendo exactas después de compactar.</p>
+ */
+public class FileParameterStore implements ParameterStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileParameterStore.class);
+
+    static final String SNAPSHOT_FILE = "snapshot.bin";
+    static final String LOG_FILE = "changes.log";
+
+    private static final int SNAPSHOT_MAGIC = 0x50524D53; // "PRMS"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int RECORD_HEADER = Integer.BYTES * 2;
+    private static final int NULL_FIELD = -1;
+
+    private static final byte OP_CREATED = 1;
+    private static final byte OP_UPDATED = 2;
+    private static final byte OP_DELETED = 3;
+
+    private final Path directory;
+    private final Path snapshotPath;
+    private final Path logPath;
+    private final boolean syncOnWrite;
+    private final int compactionThreshold;
+
+    private FileChannel log;
+    private int logRecords;
+
+    public FileParameterStore(Path directory, boolean syncOnWrite, int compactionThreshold) {
+        this.directory = directory;
+        this.snapshotPath = directory.resolve(SNAPSHOT_FILE);
+        this.logPath = directory.resolve(LOG_FILE);
+        this.syncOnWrite = syncOnWrite;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public synchronized List<ParameterChange> load() {
+        try {
+            Files.createDirectories(directory);
+            Map<String, ParameterChange> state = new LinkedHashMap<>();
+            readSnapshot(state);
+            long validLength = replayLog(state);
+            openLog(validLength);
+            return new ArrayList<>(state.values());
+        } catch (IOException exception) {
+            throw new UncheckedIOException("No fue posible recuperar los parámetros desde " + directory, exception);
+        }
+    }
+
+    @Override
+    public synchronized void append(ParameterChange change) {
+        try {
+            if (log == null) {
+                Files.createDirectories(directory);
+                openLog(Files.exists(logPath) ? Files.size(logPath) : 0L);
+            }
+            ByteBuffer record = encodeRecord(change);
+            while (record.hasRemaining()) {
+                log.write(record);
+            }
+            if (syncOnWrite) {
+                log.force(false);
+            }
+            logRecords++;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("No fue posible registrar el cambio de " + change.payload().key(),
+                    exception);
+        }
+    }
+
+    @Override
+    public synchronized boolean needsCompaction() {
+        return logRecords >= compactionThreshold;
+    }
+
+    @Override
+    public synchronized void compact() {
+        try {
+            Files.createDirectories(directory);
+            Map<String, ParameterChange> state = new LinkedHashMap<>();
+            readSnapshot(state);
+            replayLog(state);
+            writeSnapshot(state);
+            if (log == null) {
+                openLog(0L);
+            }
+            log.truncate(0L);
+            log.force(true);
+            logRecords = 0;
+            LOGGER.info("Catálogo de parámetros compactado: {} claves en {}", state.size(), snapshotPath);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("No fue posible compactar los parámetros en " + directory, exception);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (log == null) {
+            return;
+        }
+        try {
+            log.force(true);
+            log.close();
+        } catch (IOException exception) {
+            LOGGER.warn("Error cerrando el registro de cambios {}", logPath, exception);
+        } finally {
+            log = null;
+        }
+    }
+
+    private void readSnapshot(Map<String, ParameterChange> state) throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < Integer.BYTES * 4 || buffer.getInt() != SNAPSHOT_MAGIC
+                    || buffer.getInt() != SNAPSHOT_VERSION) {
+                throw new IllegalStateException("Snapshot de parámetros con formato desconocido: " + snapshotPath);
+            }
+            int count = buffer.getInt();
+            int bodyStart = buffer.position();
+            int bodyEnd = buffer.limit() - Integer.BYTES;
+            int expectedCrc = buffer.getInt(bodyEnd);
+            if (checksum(buffer, bodyStart, bodyEnd - bodyStart) != expectedCrc) {
+                throw new IllegalStateException("Snapshot de parámetros corrupto: " + snapshotPath);
+            }
+            buffer.limit(bodyEnd);
+            for (int i = 0; i < count; i++) {
+                put(state, decodeChange(buffer));
+            }
+        }
+    }
+
+    private long replayLog(Map<String, ParameterChange> state) throws IOException {
+        if (!Files.exists(logPath)) {
+            logRecords = 0;
+            return 0L;
+        }
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int records = 0;
+            int valid = 0;
+            while (buffer.remaining() >= RECORD_HEADER) {
+                int length = buffer.getInt();
+                int crc = buffer.getInt();
+                if (length <= 0 || length > buffer.remaining()
+                        || checksum(buffer, buffer.position(), length) != crc) {
+                    break;
+                }
+                put(state, decodeChange(buffer.slice(buffer.position(), length)));
+                buffer.position(buffer.position() + length);
+                valid = buffer.position();
+                records++;
+            }
+            if (valid < size) {
+                LOGGER.warn("Registro de cambios {} con {} bytes finales incompletos; se descartan",
+                        logPath, size - valid);
+            }
+            logRecords = records;
+            return valid;
+        }
+    }
+
+    private void openLog(long validLength) throws IOException {
+        if (log != null) {
+            log.close();
+        }
+        log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        if (log.size() > validLength) {
+            log.truncate(validLength);
+            log.force(true);
+        }
+        log.position(validLength);
+    }
+
+    private void writeSnapshot(Map<String, ParameterChange> state) throws IOException {
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        int bodySize = 0;
+        for (ParameterChange change : state.values()) {
+            bodySize += encodedSize(change);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 4 + bodySize);
+        buffer.putInt(SNAPSHOT_MAGIC).putInt(SNAPSHOT_VERSION).putInt(state.size());
+        for (ParameterChange change : state.values()) {
+            encodeChange(buffer, change);
+        }
+        buffer.putInt(checksum(buffer, Integer.BYTES * 3, bodySize));
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void put(Map<String, ParameterChange> state, ParameterChange change) {
+        // Reinsertar para que el orden del mapa siga el de las versiones.
+        state.remove(change.payload().key());
+        state.put(change.payload().key(), change);
+    }
+
+    private static ByteBuffer encodeRecord(ParameterChange change) {
+        int length = encodedSize(change);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER + length);
+        buffer.position(RECORD_HEADER);
+        encodeChange(buffer, change);
+        buffer.putInt(0, length);
+        buffer.putInt(Integer.BYTES, checksum(buffer, RECORD_HEADER, length));
+        buffer.flip();
+        return buffer;
+    }
+
+    private static int encodedSize(ParameterChange change) {
+        String value = change.type() == CatalogEventType.DELETED ? null : change.payload().value();
+        return Long.BYTES + 1 + fieldSize(change.payload().key()) + fieldSize(value);
+    }
+
+    private static int fieldSize(String value) {
+        return Integer.BYTES + (value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static void encodeChange(ByteBuffer buffer, ParameterChange change) {
+        buffer.putLong(change.version());
+        buffer.put(opCode(change.type()));
+        putField(buffer, change.payload().key());
+        putField(buffer, change.type() == CatalogEventType.DELETED ? null : change.payload().value());
+    }
+
+    private static ParameterChange decodeChange(ByteBuffer buffer) {
+        long version = buffer.getLong();
+        CatalogEventType type = eventType(buffer.get());
+        Parameter parameter = new Parameter(getField(buffer), getField(buffer));
+        return new ParameterChange(version, type, parameter);
+    }
+
+    private static void putField(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putInt(NULL_FIELD);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getField(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_FIELD) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    private static byte opCode(CatalogEventType type) {
+        return switch (type) {
+            case CREATED -> OP_CREATED;
+            case UPDATED -> OP_UPDATED;
+            case DELETED -> OP_DELETED;
+            case RESYNC -> throw new IllegalArgumentException("RESYNC no es un cambio persistible");
+        };
+    }
+
+    private static CatalogEventType eventType(byte code) {
+        return switch (code) {
+            case OP_CREATED -> CatalogEventType.CREATED;
+            case OP_UPDATED -> CatalogEventType.UPDATED;
+            case OP_DELETED -> CatalogEventType.DELETED;
+            default -> throw new IllegalStateException("Operación desconocida en el registro de cambios: " + code);
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package co.edu.uco.parametersservice.catalog.storage;
+
+import java.util.List;
+
+import co.edu.uco.parametersservice.catalog.ParameterChange;
+
+/**
+ * Store sin persistencia: los cambios y sus versiones se pierden al reiniciar.
+ * Útil para pruebas y despliegues efímeros ({@code catalog.storage.type=memory}).
+ */
+public class InMemoryParameterStore implements ParameterStore {
+
+    @Override
+    public List<ParameterChange> load() {
+        return List.of();
+    }
+
+    @Override
+    public void append(ParameterChange change) {
+        // Nada que persistir.
+    }
+
+    @Override
+    public boolean needsCompaction() {
+        return false;
+    }
+
+    @Override
+    public void compact() {
+        // Nada que compactar.
+    }
+
+    @Override
+    public void close() {
+        // Sin recursos abiertos.
+    }
+}
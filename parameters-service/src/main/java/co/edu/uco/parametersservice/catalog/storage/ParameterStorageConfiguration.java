@@ -0,0 +1,30 @@
+package co.edu.uco.parametersservice.catalog.storage;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selecciona el backend de persistencia del catálogo según
+ * {@code catalog.storage.type}: {@code file} (por defecto) o {@code memory}.
+ */
+@Configuration
+public class ParameterStorageConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "catalog.storage.type", havingValue = "file", matchIfMissing = true)
+    public ParameterStore fileParameterStore(@Value("${catalog.storage.directory}") String directory,
+            @Value("${catalog.storage.sync-on-write:true}") boolean syncOnWrite,
+            @Value("${catalog.storage.compaction-threshold:1000}") int compactionThreshold) {
+        return new FileParameterStore(Path.of(directory), syncOnWrite, compactionThreshold);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "catalog.storage.type", havingValue = "memory")
+    public ParameterStore inMemoryParameterStore() {
+        return new InMemoryParameterStore();
+    }
+}
@@ -0,0 +1,39 @@
+package co.edu.uco.parametersservice.catalog.storage;
+
+import java.util.List;
+
+import co.edu.uco.parametersservice.catalog.ParameterChange;
+
+/**
+ * Backend de persistencia del catálogo de parámetros. El mapa en memoria de
+ * {@link co.edu.uco.parametersservice.catalog.ParameterCatalog} sigue atendiendo
+ * las lecturas; el store conserva los cambios versionados y los devuelve al
+ * arrancar para reconstruir tanto el estado como el historial consultable.
+ */
+public interface ParameterStore extends AutoCloseable {
+
+    /**
+     * Recupera el último cambio persistido de cada clave, ordenado por versión.
+     * Las eliminaciones se conservan como {@code DELETED} para que un consumidor
+     * que pregunte por una versión antigua también se entere de ellas.
+     */
+    List<ParameterChange> load();
+
+    /**
+     * Registra un cambio antes de que sea visible en el catálogo.
+     */
+    void append(ParameterChange change);
+
+    /**
+     * Indica si el registro de cambios creció lo suficiente como para compactarlo.
+     */
+    boolean needsCompaction();
+
+    /**
+     * Reescribe el snapshot con el último cambio de cada clave y vacía el registro.
+     */
+    void compact();
+
+    @Override
+    void close();
+}
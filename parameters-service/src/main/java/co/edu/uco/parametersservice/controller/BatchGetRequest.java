@@ -0,0 +1,9 @@
+package co.edu.uco.parametersservice.controller;
+
+import java.util.List;
+
+/**
+ * Cuerpo de la consulta por lote: claves a resolver en una sola petición.
+ */
+public record BatchGetRequest(List<String> keys) {
+}
@@ -0,0 +1,61 @@
+package co.edu.uco.parametersservice.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import co.edu.uco.parametersservice.snapshot.CatalogSnapshot;
+import co.edu.uco.parametersservice.snapshot.SnapshotEncoding;
+
+/**
+ * Construye ETags fuertes para las respuestas del catálogo. Un ETag por clave
+ * y el del listado completo se derivan del contenido, por lo que coinciden
+ * entre réplicas y reinicios.
+ */
+final class EntityTags {
+
+    private static final int TAG_BYTES = 16;
+
+    private EntityTags() {
+        // Utilidad
+    }
+
+    static String ofContent(String... fields) {
+        MessageDigest digest = sha256();
+        for (String field : fields) {
+            if (field == null) {
+                digest.update((byte) 0);
+            } else {
+                digest.update((byte) 1);
+                digest.update(field.getBytes(StandardCharsets.UTF_8));
+            }
+            // Separador: evita que ("ab", "c") y ("a", "bc") produzcan el mismo resumen.
+            digest.update((byte) 0x1F);
+        }
+        byte[] hash = digest.digest();
+        return quote(HexFormat.of().formatHex(hash, 0, TAG_BYTES));
+    }
+
+    /**
+     * Cada representación del snapshot lleva su propio ETag: el cuerpo
+     * comprimido no es idéntico byte a byte al JSON sin comprimir.
+     */
+    static String ofSnapshot(CatalogSnapshot snapshot, SnapshotEncoding encoding) {
+        return encoding.contentEncoding() == null
+                ? quote(snapshot.tag())
+                : quote(snapshot.tag() + "-" + encoding.contentEncoding());
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 no disponible en la JVM", exception);
+        }
+    }
+}
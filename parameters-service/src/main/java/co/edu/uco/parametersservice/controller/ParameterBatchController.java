@@ -0,0 +1,50 @@
+package co.edu.uco.parametersservice.controller;
+
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import co.edu.uco.parametersservice.catalog.Parameter;
+import co.edu.uco.parametersservice.service.ReactiveParameterService;
+import reactor.core.publisher.Mono;
+
+/**
+ * Consulta de varios parámetros en una sola petición ({@code POST /api/v1/parameters:batchGet}). Vive en un
+ * controlador aparte porque la ruta no cuelga de {@code /api/v1/parameters/}. Las claves inexistentes se omiten
+ * del mapa de respuesta.
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class ParameterBatchController {
+
+    static final int MAX_KEYS = 500;
+
+    private static final CacheControl NO_CACHE = CacheControl.noStore().mustRevalidate();
+
+    private final ReactiveParameterService service;
+
+    public ParameterBatchController(ReactiveParameterService service) {
+        this.service = service;
+    }
+
+    @PostMapping("/parameters:batchGet")
+    public Mono<ResponseEntity<Map<String, Parameter>>> batchGet(@RequestBody BatchGetRequest request) {
+        if (request.keys() == null || request.keys().size() > MAX_KEYS) {
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .cacheControl(NO_CACHE)
+                    .build());
+        }
+        return service.findByKeys(request.keys())
+                .map(found -> ResponseEntity.ok()
+                        .cacheControl(NO_CACHE)
+                        .header("Pragma", "no-cache")
+                        .header("Expires", "0")
+                        .body(found));
+    }
+}
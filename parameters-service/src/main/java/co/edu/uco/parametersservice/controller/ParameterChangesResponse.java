@@ -0,0 +1,19 @@
+package co.edu.uco.parametersservice.controller;
+
+import java.util.List;
+
+import co.edu.uco.parametersservice.catalog.ParameterChange;
+
+/**
+ * Respuesta de {@code GET /api/v1/parameters/changes}: los cambios pendientes y
+ * la versión desde la que el consumidor debe preguntar la próxima vez.
+ */
+public record ParameterChangesResponse(long version, List<ParameterChange> changes) {
+
+    static ParameterChangesResponse of(long versionBeforeRead, List<ParameterChange> changes) {
+        // Un cambio concurrente puede quedar incluido aunque sea posterior a la versión leída antes de consultar.
+        long version = changes.isEmpty() ? versionBeforeRead
+                : Math.max(versionBeforeRead, changes.get(changes.size() - 1).version());
+        return new ParameterChangesResponse(version, changes);
+    }
+}
@@ -1,7 +1,9 @@
 package co.edu.uco.parametersservice.controller;
 
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -9,25 +11,32 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
 
-import co.edu.uco.parametersservice.catalog.CatalogEventType;
 import co.edu.uco.parametersservice.catalog.Parameter;
 import co.edu.uco.parametersservice.service.ReactiveParameterService;
+import co.edu.uco.parametersservice.snapshot.SnapshotEncoding;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * Controlador que expone la configuración dinámica (parámetros) asociada a la gestión
- * de conjuntos residenciales. Las respuestas aplican políticas de no cacheo para garantizar
- * la lectura de valores actualizados.
+ * de conjuntos residenciales. Las lecturas llevan un ETag y {@code no-cache} para garantizar
+ * la lectura de valores actualizados: se revalidan siempre, y un {@code If-None-Match}
+ * vigente se responde con {@code 304} sin cuerpo.
  */
 @RestController
 @RequestMapping("/api/v1/parameters")
 public class ParameterController {
 
+    static final String VERSION_HEADER = "X-Catalog-Version";
+
     private static final CacheControl NO_CACHE = CacheControl.noStore().mustRevalidate();
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
 
     private final ReactiveParameterService service;
 
@@ -36,11 +45,58 @@ public class ParameterController {
     }
 
     /**
-     * Retorna el listado completo de parámetros disponibles.
+     * Retorna el listado completo de parámetros disponibles. El encabezado
+     * {@value #VERSION_HEADER} indica desde qué versión pedir cambios
+     * incrementales en {@code /changes}. El cuerpo es el snapshot ya
+     * serializado del catálogo, comprimido con gzip si el cliente lo acepta, y
+     * se entrega sin copiarlo; el ETag corresponde a su contenido.
      */
-    @GetMapping
-    public Flux<Parameter> getAllParameters() {
-        return service.findAll();
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<byte[]>> getAllParameters(
+            @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            ServerWebExchange exchange) {
+        // Se lee antes que el snapshot: a lo sumo el cliente pedirá de nuevo cambios que ya tiene.
+        long version = service.currentVersion();
+        SnapshotEncoding encoding = SnapshotEncoding.negotiate(acceptEncoding);
+        return service.currentSnapshot()
+                .map(snapshot -> {
+                    String etag = EntityTags.ofSnapshot(snapshot, encoding);
+                    if (exchange.checkNotModified(etag)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .cacheControl(REVALIDATE)
+                                .eTag(etag)
+                                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                                .build();
+                    }
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                            .cacheControl(REVALIDATE)
+                            .eTag(etag)
+                            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                            .header(VERSION_HEADER, Long.toString(version))
+                            .contentType(MediaType.APPLICATION_JSON);
+                    if (encoding.contentEncoding() != null) {
+                        response.header(HttpHeaders.CONTENT_ENCODING, encoding.contentEncoding());
+                    }
+                    return response.body(service.serve(snapshot, encoding));
+                });
+    }
+
+    /**
+     * Devuelve el último cambio de cada parámetro modificado después de la
+     * versión indicada, incluidas las eliminaciones, para resincronizar sin
+     * descargar el catálogo completo.
+     */
+    @GetMapping("/changes")
+    public Mono<ResponseEntity<ParameterChangesResponse>> getChanges(
+            @RequestParam(name = "since", defaultValue = "0") long since) {
+        long version = service.currentVersion();
+        return service.changesSince(since)
+                .collectList()
+                .map(changes -> ResponseEntity.ok()
+                        .cacheControl(NO_CACHE)
+                        .header("Pragma", "no-cache")
+                        .header("Expires", "0")
+                        .body(ParameterChangesResponse.of(version, changes)));
     }
 
     /**
@@ -50,9 +106,8 @@ public class ParameterController {
     public Mono<ResponseEntity<Parameter>> getParameter(@PathVariable String key) {
         return service.findByKey(key)
                 .map(value -> ResponseEntity.ok()
-                        .cacheControl(NO_CACHE)
-                        .header("Pragma", "no-cache")
-                        .header("Expires", "0")
+                        .cacheControl(REVALIDATE)
+                        .eTag(EntityTags.ofContent(value.key(), value.value()))
                         .body(value))
                 .switchIfEmpty(Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .cacheControl(NO_CACHE)
@@ -66,7 +121,7 @@ public class ParameterController {
      */
     @PostMapping
     public Mono<ResponseEntity<Parameter>> createParameter(@RequestBody Parameter body) {
-        Parameter sanitizedParameter = new Parameter(body.getKey(), body.getValue());
+        Parameter sanitizedParameter = new Parameter(body.key(), body.value());
         return service.upsert(sanitizedParameter)
                 .map(saved -> ResponseEntity.status(HttpStatus.CREATED)
                         .cacheControl(NO_CACHE)
@@ -80,7 +135,7 @@ public class ParameterController {
      */
     @PutMapping("/{key}")
     public Mono<ResponseEntity<Parameter>> updateParameter(@PathVariable String key, @RequestBody Parameter body) {
-        Parameter sanitizedParameter = new Parameter(key, body.getValue());
+        Parameter sanitizedParameter = new Parameter(key, body.value());
         return service.upsert(sanitizedParameter)
                 .map(saved -> ResponseEntity.ok()
                         .cacheControl(NO_CACHE)
@@ -90,14 +145,19 @@ public class ParameterController {
     }
 
     /**
-     * Expone un flujo continuo con los cambios en los parámetros.
+     * Expone un flujo continuo con los cambios en los parámetros, eliminaciones
+     * incluidas. El {@code id} de cada evento es la versión del catálogo; al
+     * reconectar con el encabezado {@code Last-Event-ID} se entregan los cambios
+     * perdidos, o un evento {@code RESYNC} sin datos si la versión es desconocida.
      */
     @GetMapping(value = "/stream", produces = "text/event-stream")
-    public Flux<ServerSentEvent<Parameter>> streamUpdates() {
-        return service.listenChanges()
-                .filter(change -> change.type() != CatalogEventType.DELETED)
-                .map(change -> ServerSentEvent.<Parameter>builder(change.payload())
+    public Flux<ServerSentEvent<Parameter>> streamUpdates(
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return service.listenChanges(lastEventId)
+                .map(change -> ServerSentEvent.<Parameter>builder()
+                        .id(Long.toString(change.version()))
                         .event(change.type().name())
+                        .data(change.payload())
                         .build());
     }
 }
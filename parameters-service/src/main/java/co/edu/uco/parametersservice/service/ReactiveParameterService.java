@@ -1,10 +1,16 @@
 package co.edu.uco.parametersservice.service;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.springframework.stereotype.Service;
 
 import co.edu.uco.parametersservice.catalog.Parameter;
 import co.edu.uco.parametersservice.catalog.ParameterChange;
 import co.edu.uco.parametersservice.catalog.ReactiveParameterCatalog;
+import co.edu.uco.parametersservice.snapshot.CatalogSnapshot;
+import co.edu.uco.parametersservice.snapshot.ParameterCatalogSnapshots;
+import co.edu.uco.parametersservice.snapshot.SnapshotEncoding;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -16,19 +22,44 @@ import reactor.core.publisher.Mono;
 public class ReactiveParameterService {
 
     private final ReactiveParameterCatalog catalog;
+    private final ParameterCatalogSnapshots snapshots;
 
-    public ReactiveParameterService(ReactiveParameterCatalog catalog) {
+    public ReactiveParameterService(ReactiveParameterCatalog catalog, ParameterCatalogSnapshots snapshots) {
         this.catalog = catalog;
+        this.snapshots = snapshots;
     }
 
     public Flux<Parameter> findAll() {
         return catalog.findAll();
     }
 
+    /**
+     * Catálogo completo ya serializado; sólo se regenera cuando cambia.
+     */
+    public Mono<CatalogSnapshot> currentSnapshot() {
+        return Mono.fromSupplier(snapshots::current);
+    }
+
+    public byte[] serve(CatalogSnapshot snapshot, SnapshotEncoding encoding) {
+        return snapshots.serve(snapshot, encoding);
+    }
+
     public Mono<Parameter> findByKey(String key) {
         return catalog.findByKey(key);
     }
 
+    public Mono<Map<String, Parameter>> findByKeys(Collection<String> keys) {
+        return catalog.findByKeys(keys);
+    }
+
+    public long currentVersion() {
+        return catalog.currentVersion();
+    }
+
+    public Flux<ParameterChange> changesSince(long sinceVersion) {
+        return catalog.changesSince(sinceVersion);
+    }
+
     public Mono<Parameter> upsert(Parameter parameter) {
         return catalog.save(parameter);
     }
@@ -37,7 +68,7 @@ public class ReactiveParameterService {
         return catalog.remove(key);
     }
 
-    public Flux<ParameterChange> listenChanges() {
-        return catalog.changes();
+    public Flux<ParameterChange> listenChanges(String lastEventId) {
+        return catalog.changesAfter(lastEventId);
     }
 }
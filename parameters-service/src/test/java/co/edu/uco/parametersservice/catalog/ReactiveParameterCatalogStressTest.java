@@ -0,0 +1,71 @@
+package co.edu.uco.parametersservice.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import co.edu.uco.parametersservice.catalog.storage.InMemoryParameterStore;
+
+class ReactiveParameterCatalogStressTest {
+
+    private static final int THREADS = 16;
+    private static final int WRITES_PER_THREAD = 500;
+    // Cada hilo reescribe 20 claves y, desde la iteración 20, elimina una de ellas cada 10 escrituras.
+    private static final int REMOVES_PER_THREAD = (WRITES_PER_THREAD - 20) / 10;
+    private static final int TOTAL = THREADS * (WRITES_PER_THREAD + REMOVES_PER_THREAD);
+
+    @Test
+    void shouldPublishEveryConcurrentWriteInVersionOrder() throws Exception {
+        ReactiveParameterCatalog catalog = new ReactiveParameterCatalog(new InMemoryParameterStore(), TOTAL);
+        List<Long> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch allReceived = new CountDownLatch(TOTAL);
+        catalog.changesAfter(null).subscribe(change -> {
+            received.add(change.version());
+            allReceived.countDown();
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < WRITES_PER_THREAD; i++) {
+                    String key = "stress.parameter." + thread + "." + (i % 20);
+                    if (i >= 20 && i % 10 == 9) {
+                        catalog.remove(key).block(Duration.ofSeconds(5));
+                    }
+                    catalog.save(new Parameter(key, "valor " + i)).block(Duration.ofSeconds(5));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> writer : writers) {
+            // Cualquier excepción de una escritura (p. ej. EmissionException) hace fallar la prueba aquí.
+            writer.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertTrue(allReceived.await(30, TimeUnit.SECONDS), "No llegaron todos los cambios al stream");
+
+        synchronized (received) {
+            assertEquals(TOTAL, received.size());
+            for (int i = 0; i < TOTAL; i++) {
+                assertEquals(i + 1, received.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package co.edu.uco.parametersservice.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import co.edu.uco.parametersservice.catalog.storage.InMemoryParameterStore;
+
+class ReactiveParameterCatalogTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void shouldReplayMissedChangesFromVersionIndexBeyondTheBuffer() {
+        ReactiveParameterCatalog catalog = new ReactiveParameterCatalog(new InMemoryParameterStore(), 2);
+        catalog.save(new Parameter("test.resume.a", "1")).block(TIMEOUT);
+        for (int i = 0; i < 5; i++) {
+            catalog.save(new Parameter("test.resume.b", Integer.toString(i))).block(TIMEOUT);
+        }
+        catalog.remove("test.resume.a").block(TIMEOUT);
+
+        List<ParameterChange> missed = catalog.changesAfter("1").take(2).collectList().block(TIMEOUT);
+
+        assertEquals(List.of(6L, 7L), missed.stream().map(ParameterChange::version).toList());
+        assertEquals("4", missed.get(0).payload().value());
+        assertEquals(CatalogEventType.DELETED, missed.get(1).type());
+    }
+
+    @Test
+    void shouldAskForResyncWhenVersionIsUnknown() {
+        ReactiveParameterCatalog catalog = new ReactiveParameterCatalog(new InMemoryParameterStore(), 16);
+        catalog.save(new Parameter("test.unknown.a", "1")).block(TIMEOUT);
+
+        ParameterChange first = catalog.changesAfter("999").blockFirst(TIMEOUT);
+
+        assertEquals(CatalogEventType.RESYNC, first.type());
+        assertEquals(1L, first.version());
+    }
+}
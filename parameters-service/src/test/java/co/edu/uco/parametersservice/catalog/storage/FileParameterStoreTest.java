@@ -0,0 +1,65 @@
+package co.edu.uco.parametersservice.catalog.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import co.edu.uco.parametersservice.catalog.CatalogEventType;
+import co.edu.uco.parametersservice.catalog.Parameter;
+import co.edu.uco.parametersservice.catalog.ParameterChange;
+
+class FileParameterStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRecoverLatestChangePerKeyInVersionOrder() {
+        try (FileParameterStore store = new FileParameterStore(directory, false, 1000)) {
+            store.load();
+            store.append(new ParameterChange(1, CatalogEventType.CREATED, new Parameter("a", "1")));
+            store.append(new ParameterChange(2, CatalogEventType.CREATED, new Parameter("b", "2")));
+            store.append(new ParameterChange(3, CatalogEventType.UPDATED, new Parameter("a", "3")));
+            store.append(new ParameterChange(4, CatalogEventType.DELETED, new Parameter("c", "semilla")));
+        }
+
+        try (FileParameterStore reopened = new FileParameterStore(directory, false, 1000)) {
+            List<ParameterChange> changes = reopened.load();
+
+            assertEquals(List.of(2L, 3L, 4L), changes.stream().map(ParameterChange::version).toList());
+            assertEquals("3", changes.get(1).payload().value());
+            assertEquals(CatalogEventType.DELETED, changes.get(2).type());
+            assertNull(changes.get(2).payload().value());
+        }
+    }
+
+    @Test
+    void shouldKeepVersionsAcrossCompactionAndTornTail() throws IOException {
+        try (FileParameterStore store = new FileParameterStore(directory, false, 2)) {
+            store.load();
+            store.append(new ParameterChange(1, CatalogEventType.CREATED, new Parameter("a", "1")));
+            store.append(new ParameterChange(2, CatalogEventType.DELETED, new Parameter("a", "1")));
+            store.compact();
+            store.append(new ParameterChange(3, CatalogEventType.CREATED, new Parameter("b", "3")));
+        }
+        Files.write(directory.resolve(FileParameterStore.LOG_FILE), new byte[] {0, 0, 0, 64, 9},
+                StandardOpenOption.APPEND);
+
+        try (FileParameterStore reopened = new FileParameterStore(directory, false, 2)) {
+            List<ParameterChange> changes = reopened.load();
+
+            assertEquals(2, changes.size());
+            assertEquals(2L, changes.get(0).version());
+            assertEquals(CatalogEventType.DELETED, changes.get(0).type());
+            assertEquals(3L, changes.get(1).version());
+        }
+    }
+}
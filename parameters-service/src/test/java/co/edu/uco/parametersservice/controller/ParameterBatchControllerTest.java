@@ -0,0 +1,30 @@
+package co.edu.uco.parametersservice.controller;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ParameterBatchControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Test
+    void shouldResolveKnownKeysInOneRequest() {
+        client.post().uri("/api/v1/parameters:batchGet")
+                .bodyValue(new BatchGetRequest(
+                        List.of("conjunto.max.limit", "no.existe", "gestion.conjunto.listado.limite")))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$['conjunto.max.limit'].key").isEqualTo("conjunto.max.limit")
+                .jsonPath("$['gestion.conjunto.listado.limite'].value").exists();
+    }
+}
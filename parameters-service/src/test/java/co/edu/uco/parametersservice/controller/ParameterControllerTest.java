@@ -0,0 +1,120 @@
+package co.edu.uco.parametersservice.controller;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import co.edu.uco.parametersservice.catalog.Parameter;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+class ParameterControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Test
+    void shouldReturnOnlyChangesAfterRequestedVersion() {
+        client.post().uri("/api/v1/parameters").bodyValue(new Parameter("test.changes.a", "1"))
+                .exchange().expectStatus().isCreated();
+        String header = client.get().uri("/api/v1/parameters")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Parameter.class)
+                .getResponseHeaders().getFirst(ParameterController.VERSION_HEADER);
+        long version = Long.parseLong(header);
+
+        client.put().uri("/api/v1/parameters/test.changes.a").bodyValue(new Parameter(null, "2"))
+                .exchange().expectStatus().isOk();
+        client.post().uri("/api/v1/parameters").bodyValue(new Parameter("test.changes.b", "3"))
+                .exchange().expectStatus().isCreated();
+
+        ParameterChangesResponse response = client.get().uri("/api/v1/parameters/changes?since={v}", version)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ParameterChangesResponse.class)
+                .returnResult().getResponseBody();
+
+        assertEquals(version + 2, response.version());
+        assertEquals(2, response.changes().size());
+        assertEquals("2", response.changes().get(0).payload().value());
+        assertEquals("test.changes.b", response.changes().get(1).payload().key());
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhileParameterIsUnchanged() {
+        client.post().uri("/api/v1/parameters").bodyValue(new Parameter("test.etag.key", "10"))
+                .exchange().expectStatus().isCreated();
+        String etag = client.get().uri("/api/v1/parameters/test.etag.key")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Parameter.class)
+                .getResponseHeaders().getETag();
+
+        client.get().uri("/api/v1/parameters/test.etag.key").header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_MODIFIED)
+                .expectBody().isEmpty();
+
+        client.put().uri("/api/v1/parameters/test.etag.key").bodyValue(new Parameter(null, "20"))
+                .exchange().expectStatus().isOk();
+        String changed = client.get().uri("/api/v1/parameters/test.etag.key").header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Parameter.class)
+                .getResponseHeaders().getETag();
+        assertNotEquals(etag, changed);
+    }
+
+    @Test
+    void shouldAnswerNotModifiedForListUntilCatalogChanges() {
+        String etag = client.get().uri("/api/v1/parameters")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Parameter.class)
+                .getResponseHeaders().getETag();
+
+        client.get().uri("/api/v1/parameters").header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        client.post().uri("/api/v1/parameters").bodyValue(new Parameter("test.etag.list", "1"))
+                .exchange().expectStatus().isCreated();
+        client.get().uri("/api/v1/parameters").header("If-None-Match", etag)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void shouldServeGzipSnapshotWithCatalogVersion() throws IOException {
+        EntityExchangeResult<byte[]> plain = client.get().uri("/api/v1/parameters")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(byte[].class).returnResult();
+        EntityExchangeResult<byte[]> compressed = client.get().uri("/api/v1/parameters")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .expectHeader().exists(ParameterController.VERSION_HEADER)
+                .expectBody(byte[].class).returnResult();
+
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed.getResponseBody()))) {
+            assertArrayEquals(plain.getResponseBody(), gzip.readAllBytes());
+        }
+        assertNotEquals(plain.getResponseHeaders().getETag(), compressed.getResponseHeaders().getETag());
+    }
+}